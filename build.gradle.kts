@@ -11,6 +11,16 @@ plugins {
     id("io.papermc.paperweight.userdev") version "2.0.0-beta.17"
     id("net.minecrell.plugin-yml.paper") version "0.6.0"
     id("xyz.jpenilla.run-paper") version "2.3.1"
+
+    // Benchmarks
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+// Vector API batch SAT, compiled on its own so only this source set needs the incubator module
+sourceSets {
+    create("vector") {
+        compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    }
 }
 
 repositories {
@@ -37,25 +47,63 @@ dependencies {
     implementation("com.google.inject.extensions:guice-assistedinject:7.0.0")
     annotationProcessor("com.google.auto.service:auto-service:1.1.1")
     compileOnly("com.google.auto.service:auto-service-annotations:1.1.1")
+
+    // Benchmarks (paper-api is compileOnly for main, so bring it onto the jmh runtime)
+    jmhImplementation("io.papermc.paper:paper-api:1.21.5-R0.1-SNAPSHOT")
+    jmhRuntimeOnly(sourceSets["vector"].output)
+
+    // Tests (same paper-api runtime gap as the benchmarks)
+    testImplementation("io.papermc.paper:paper-api:1.21.5-R0.1-SNAPSHOT")
+    testImplementation(platform("org.junit:junit-bom:5.11.4"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 java {
     toolchain.languageVersion.set(JavaLanguageVersion.of(21))
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    profilers.set(listOf("gc"))
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+    jvmArgsAppend.add("--add-modules=jdk.incubator.vector")
+}
+
 tasks {
     build {
         dependsOn(shadowJar)
     }
 
+    jar {
+        from(sourceSets["vector"].output)
+    }
+
+    test {
+        useJUnitPlatform()
+    }
+
+    shadowJar {
+        from(sourceSets["vector"].output)
+    }
+
     withType<JavaCompile> {
         options.release.set(21)
         options.encoding = Charsets.UTF_8.name()
         options.compilerArgs = listOf("-parameters")
     }
 
+    named<JavaCompile>("compileVectorJava") {
+        // Loaded reflectively by SeparatingAxisBatches, so main never links against the incubator module
+        options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+    }
+
     withType<RunServer> {
         systemProperty("com.mojang.eula.agree", "true")
+        jvmArgs("--add-modules=jdk.incubator.vector")
     }
 
     runServer {
@@ -0,0 +1,78 @@
+package com.glance.plinko.benchmark;
+
+import com.glance.plinko.platform.paper.physics.collision.PhysicsSeparatingAxis;
+import com.glance.plinko.platform.paper.physics.collision.batch.ObstacleLanes;
+import com.glance.plinko.platform.paper.physics.collision.batch.SeparatingAxisBatch;
+import com.glance.plinko.platform.paper.physics.collision.batch.TierCounters;
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
+import com.glance.plinko.platform.paper.physics.shape.StaticObstacle;
+import org.joml.Matrix3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One ball against its nearest pegs: per-pair SAT versus the scalar and SIMD batch filters
+ * <p>
+ * The vector case needs {@code --add-modules jdk.incubator.vector} (the jmh task adds it) and
+ * {@code -Dplinko.sat.batch=vector}, otherwise it silently measures the scalar fallback
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchSeparatingAxisBenchmark {
+
+    @Param({"8", "16", "64"})
+    public int candidates;
+
+    private OrientedBox ball;
+    private List<PhysicsShape> pegs;
+    private ObstacleLanes lanes;
+    private SeparatingAxisBatch vector;
+    private int[] indices;
+    private int[] out;
+    private TierCounters tiers;
+
+    @Setup
+    public void setup() {
+        pegs = BenchmarkFixtures.board(candidates);
+        lanes = ObstacleLanes.of(StaticObstacle.pack(pegs));
+        vector = SeparatingAxisBatch.preferred();
+
+        // Touching the first peg so one candidate survives, like a real contact tick
+        ball = BenchmarkFixtures.box(0.2F, 0.55F, 0F, 0.5F, new Matrix3f().rotateZ(0.3F));
+        indices = new int[candidates];
+        for (int i = 0; i < candidates; i++) indices[i] = i;
+        out = new int[candidates];
+        tiers = new TierCounters();
+    }
+
+    @Benchmark
+    public int perPair() {
+        int hits = 0;
+        for (int i = 0; i < candidates; i++) {
+            if (PhysicsSeparatingAxis.resolveOBBvsOBBFast(ball, (OrientedBox) pegs.get(i)) != null) hits++;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int batchScalar() {
+        return SeparatingAxisBatch.scalar().retainOverlapping(ball, lanes, indices, candidates, out, tiers);
+    }
+
+    @Benchmark
+    public int batchVector() {
+        return vector.retainOverlapping(ball, lanes, indices, candidates, out, tiers);
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.glance.plinko.benchmark;
+
+import com.glance.plinko.platform.paper.game.simulation.PlinkoObject;
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
+import com.glance.plinko.platform.paper.physics.shape.Sphere;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix3f;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Server-free scenes for benchmarks
+ * <p>
+ * Nothing here touches Bukkit runtime state
+ */
+public final class BenchmarkFixtures {
+
+    public static final float PEG_SCALE = 0.75F;
+    public static final float PEG_SPACING = 1.5F;
+
+    private BenchmarkFixtures() {}
+
+    public static @NotNull OrientedBox box(float x, float y, float z, float size, @NotNull Matrix3f rotation) {
+        return new OrientedBox(new Vector3f(x, y, z), new Vector3f(size / 2F), rotation);
+    }
+
+    /** Two unit boxes far apart, rejected on the first face axis */
+    public static @NotNull OrientedBox[] separatedPair() {
+        return new OrientedBox[] {
+            box(0F, 0F, 0F, 1F, new Matrix3f()),
+            box(3F, 0F, 0F, 1F, new Matrix3f())
+        };
+    }
+
+    /** Two axis-aligned unit boxes stacked with a shallow overlap, resolves on a face axis */
+    public static @NotNull OrientedBox[] faceFacePair() {
+        return new OrientedBox[] {
+            box(0F, 0F, 0F, 1F, new Matrix3f()),
+            box(0.1F, -0.95F, 0.05F, 1F, new Matrix3f())
+        };
+    }
+
+    /**
+     * Upper box rolled 45 deg about Z, lower box rolled 45 deg about X
+     * <p>
+     * Their crossing edges overlap by 0.05 along Y, which beats every face axis
+     */
+    public static @NotNull OrientedBox[] edgeEdgePair() {
+        float quarter = (float) Math.toRadians(45);
+        float diagonal = (float) Math.sqrt(2);
+        return new OrientedBox[] {
+            box(0F, 0F, 0F, 1F, new Matrix3f().rotateZ(quarter)),
+            box(0F, -diagonal + 0.05F, 0F, 1F, new Matrix3f().rotateX(quarter))
+        };
+    }
+
+    /** A ball resting on a rotated peg's corner, as sphere and as its bounding box */
+    public static @NotNull Sphere sphereOnPeg() {
+        return new Sphere(new Vector3f(0.1F, 0.7F, 0F), 0.25F);
+    }
+
+    public static @NotNull OrientedBox peg() {
+        return box(0F, 0F, 0F, PEG_SCALE, new Matrix3f().rotateY((float) Math.toRadians(45)).rotateZ((float) Math.toRadians(45)));
+    }
+
+    /**
+     * Staggered peg layout roughly as wide as it is tall, top row at y = 0
+     * <p>
+     * Pegs mirror {@code PegFactory} (rotated 45 deg about Y, scale 0.75)
+     */
+    public static @NotNull List<PhysicsShape> board(int pegCount) {
+        int columns = (int) Math.ceil(Math.sqrt(pegCount));
+        Matrix3f pegRotation = new Matrix3f().rotateY((float) Math.toRadians(45));
+
+        List<PhysicsShape> pegs = new ArrayList<>(pegCount);
+        for (int i = 0; i < pegCount; i++) {
+            int row = i / columns;
+            int col = i % columns;
+            float stagger = (row % 2 == 0) ? 0F : PEG_SPACING / 2F;
+            float x = (col - columns / 2F) * PEG_SPACING + stagger;
+            float y = -row * PEG_SPACING;
+            pegs.add(box(x, y, 0F, PEG_SCALE, new Matrix3f(pegRotation)));
+        }
+        return pegs;
+    }
+
+    /** A unit-mass ball hovering just above the centre of {@link #board(int)} */
+    public static @NotNull PlinkoObject ball() {
+        OrientedBox shape = box(0.2F, 2F, 0F, 0.5F, new Matrix3f());
+        return new PlinkoObject(shape, 1.0F, 0.3F);
+    }
+
+    /**
+     * Balls packed in rows of 20 above {@link #board(int)}, all dropped on the same tick
+     * <p>
+     * Columns are jittered deterministically so the rain spreads instead of stacking
+     */
+    public static @NotNull List<PlinkoObject> rain(int balls) {
+        List<PlinkoObject> objects = new ArrayList<>(balls);
+        for (int i = 0; i < balls; i++) {
+            int row = i / 20;
+            int col = i % 20;
+            float jitter = ((i * 37) % 11) * 0.01F;
+            OrientedBox shape = box((col - 10) * 0.6F + jitter, 2F + row * 0.6F, 0F, 0.5F, new Matrix3f());
+            objects.add(new PlinkoObject(shape, 1.0F, 0.3F));
+        }
+        return objects;
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.glance.plinko.benchmark;
+
+import com.glance.plinko.platform.paper.game.simulation.PlinkoObject;
+import com.glance.plinko.platform.paper.physics.collision.CollisionResponder;
+import com.glance.plinko.platform.paper.physics.collision.CollisionResponse;
+import com.glance.plinko.platform.paper.physics.collision.CollisionResult;
+import com.glance.plinko.platform.paper.physics.collision.PhysicsSeparatingAxis;
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollisionResponseBenchmark {
+
+    private PlinkoObject primary;
+    private CollisionResult result;
+
+    @Setup
+    public void setup() {
+        OrientedBox[] pair = BenchmarkFixtures.faceFacePair();
+        this.primary = new PlinkoObject(pair[1], 1.0F, 0.3F);
+        this.primary.setVelocity(new Vector3f(0.05F, -0.4F, 0F));
+
+        this.result = PhysicsSeparatingAxis.resolveOBBvsOBB(pair[1], pair[0]);
+        if (result == null) throw new IllegalStateException("Fixture pair does not overlap");
+    }
+
+    @Benchmark
+    public CollisionResponse planResponseLite() {
+        return CollisionResponder.planResponseLite(primary, result);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.glance.plinko.benchmark;
+
+import com.glance.plinko.platform.paper.physics.collision.CollisionResult;
+import com.glance.plinko.platform.paper.physics.collision.PhysicsSeparatingAxis;
+import com.glance.plinko.platform.paper.physics.collision.manifold.Manifold;
+import com.glance.plinko.platform.paper.physics.collision.manifold.ManifoldHelper;
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ManifoldBenchmark {
+
+    private OrientedBox faceA;
+    private OrientedBox faceB;
+    private Vector3f faceNormal;
+    private boolean faceRefIsA;
+    private int faceIdx;
+
+    private OrientedBox edgeA;
+    private OrientedBox edgeB;
+    private Vector3f edgeNormal;
+    private int edgeIdxA;
+    private int edgeIdxB;
+
+    @Setup
+    public void setup() {
+        OrientedBox[] face = BenchmarkFixtures.faceFacePair();
+        CollisionResult faceHit = requireHit(face);
+        this.faceA = face[0];
+        this.faceB = face[1];
+        this.faceNormal = faceHit.normal();
+        this.faceRefIsA = faceHit.axisType() == CollisionResult.AxisType.FACE_A;
+        this.faceIdx = faceRefIsA ? faceHit.indexA() : faceHit.indexB();
+
+        OrientedBox[] edge = BenchmarkFixtures.edgeEdgePair();
+        CollisionResult edgeHit = requireHit(edge);
+        this.edgeA = edge[0];
+        this.edgeB = edge[1];
+        this.edgeNormal = edgeHit.normal();
+        this.edgeIdxA = edgeHit.indexA();
+        this.edgeIdxB = edgeHit.indexB();
+    }
+
+    @Benchmark
+    public Manifold faceFace() {
+        return ManifoldHelper.buildFaceFaceManifold(faceA, faceB, faceNormal, faceRefIsA, faceIdx);
+    }
+
+    @Benchmark
+    public Manifold edgeEdge() {
+        return ManifoldHelper.buildEdgeEdgeManifold(edgeA, edgeB, edgeIdxA, edgeIdxB, edgeNormal);
+    }
+
+    private static CollisionResult requireHit(OrientedBox[] pair) {
+        CollisionResult result = PhysicsSeparatingAxis.resolveOBBvsOBB(pair[0], pair[1]);
+        if (result == null) throw new IllegalStateException("Fixture pair does not overlap");
+        return result;
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.glance.plinko.benchmark;
+
+import com.glance.plinko.platform.paper.physics.collision.CollisionResult;
+import com.glance.plinko.platform.paper.physics.collision.PhysicsSeparatingAxis;
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import com.glance.plinko.platform.paper.physics.shape.StaticObstacle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeparatingAxisBenchmark {
+
+    @Param({"SEPARATED", "FACE_FACE", "EDGE_EDGE"})
+    public String scenario;
+
+    private OrientedBox a;
+    private OrientedBox b;
+    private StaticObstacle staticB;
+
+    @Setup
+    public void setup() {
+        OrientedBox[] pair = switch (scenario) {
+            case "SEPARATED" -> BenchmarkFixtures.separatedPair();
+            case "FACE_FACE" -> BenchmarkFixtures.faceFacePair();
+            case "EDGE_EDGE" -> BenchmarkFixtures.edgeEdgePair();
+            default -> throw new IllegalArgumentException("Unknown scenario " + scenario);
+        };
+        this.a = pair[0];
+        this.b = pair[1];
+        this.staticB = StaticObstacle.of(b);
+    }
+
+    @Benchmark
+    public CollisionResult reference() {
+        return PhysicsSeparatingAxis.resolveOBBvsOBB(a, b);
+    }
+
+    @Benchmark
+    public CollisionResult fast() {
+        return PhysicsSeparatingAxis.resolveOBBvsOBBFast(a, b);
+    }
+
+    @Benchmark
+    public CollisionResult fastStatic() {
+        return PhysicsSeparatingAxis.resolveOBBvsStatic(a, staticB);
+    }
+
+}
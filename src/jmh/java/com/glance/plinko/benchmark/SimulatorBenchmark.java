@@ -0,0 +1,49 @@
+package com.glance.plinko.benchmark;
+
+import com.glance.plinko.platform.paper.animation.PlinkoAnimation;
+import com.glance.plinko.platform.paper.game.simulation.PlinkoSimulator;
+import com.glance.plinko.platform.paper.physics.broadphase.SpatialHashGrid;
+import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SimulatorBenchmark {
+
+    @Param({"50", "500", "5000"})
+    public int pegs;
+
+    private final PlinkoSimulator simulator = new PlinkoSimulator();
+    private List<PhysicsShape> board;
+    private SpatialHashGrid grid;
+
+    @Setup
+    public void setup() {
+        this.board = BenchmarkFixtures.board(pegs);
+        this.grid = new SpatialHashGrid(board);
+    }
+
+    /** Full drop against a prebuilt grid, the steady-state cost per drop */
+    @Benchmark
+    public PlinkoAnimation simulate() {
+        return simulator.simulate(BenchmarkFixtures.ball(), grid);
+    }
+
+    /** Full drop including the per-call grid build of the list overload */
+    @Benchmark
+    public PlinkoAnimation simulateFromList() {
+        return simulator.simulate(BenchmarkFixtures.ball(), board);
+    }
+
+}
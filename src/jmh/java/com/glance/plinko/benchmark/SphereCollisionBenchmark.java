@@ -0,0 +1,49 @@
+package com.glance.plinko.benchmark;
+
+import com.glance.plinko.platform.paper.physics.collision.CollisionResult;
+import com.glance.plinko.platform.paper.physics.collision.PhysicsSeparatingAxis;
+import com.glance.plinko.platform.paper.physics.collision.PhysicsSphereCollider;
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import com.glance.plinko.platform.paper.physics.shape.Sphere;
+import org.joml.Matrix3f;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sphere-vs-peg against the same ball modelled as a box through SAT
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SphereCollisionBenchmark {
+
+    private Sphere ball;
+    private OrientedBox ballBox;
+    private OrientedBox peg;
+
+    @Setup
+    public void setup() {
+        this.ball = BenchmarkFixtures.sphereOnPeg();
+        this.ballBox = new OrientedBox(new Vector3f(ball.center()), new Vector3f(ball.radius()), new Matrix3f());
+        this.peg = BenchmarkFixtures.peg();
+    }
+
+    @Benchmark
+    public CollisionResult sphereVsObb() {
+        return PhysicsSphereCollider.resolveSphereVsOBB(ball, peg);
+    }
+
+    @Benchmark
+    public CollisionResult obbVsObb() {
+        return PhysicsSeparatingAxis.resolveOBBvsOBBFast(ballBox, peg);
+    }
+
+}
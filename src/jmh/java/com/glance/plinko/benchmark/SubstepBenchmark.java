@@ -0,0 +1,76 @@
+package com.glance.plinko.benchmark;
+
+import com.glance.plinko.platform.paper.animation.PlinkoAnimation;
+import com.glance.plinko.platform.paper.game.BoardLayout;
+import com.glance.plinko.platform.paper.game.PlinkoBoard;
+import com.glance.plinko.platform.paper.game.simulation.PlinkoObject;
+import com.glance.plinko.platform.paper.game.simulation.PlinkoSimulator;
+import com.glance.plinko.platform.paper.game.simulation.PlinkoWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a board's physics substeps per displayed tick
+ * <p>
+ * Both benchmarks run on the default 8 row board, the frame count is the same for every
+ * setting so scores should grow roughly linearly with {@code substeps}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SubstepBenchmark {
+
+    private static final int TICKS = 100;
+    private static final int BALLS = 50;
+
+    @Param({"1", "2", "4", "8"})
+    public int substeps;
+
+    private final PlinkoSimulator simulator = new PlinkoSimulator();
+    private PlinkoBoard board;
+
+    @Setup(Level.Trial)
+    public void setupBoard() {
+        this.board = PlinkoBoard.compile(BoardLayout.builder().substeps(substeps).build());
+    }
+
+    /**
+     * A fresh {@value #BALLS} ball world per invocation, kept out of {@link #drop()}
+     * so single drops don't pay for building it
+     */
+    @State(Scope.Thread)
+    public static class Rain {
+        PlinkoWorld world;
+
+        @Setup(Level.Invocation)
+        public void setup(SubstepBenchmark bench) {
+            this.world = bench.simulator.newWorld(bench.board, BALLS);
+            for (PlinkoObject ball : BenchmarkFixtures.rain(BALLS)) world.spawn(ball);
+        }
+    }
+
+    /** A single full drop, recorded at one keyframe per tick */
+    @Benchmark
+    public PlinkoAnimation drop() {
+        return simulator.simulate(BenchmarkFixtures.ball(), board);
+    }
+
+    /** Per displayed tick of a {@value #BALLS} ball rain */
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public PlinkoWorld ballRain(Rain rain) {
+        for (int i = 0; i < TICKS; i++) rain.world.step();
+        return rain.world;
+    }
+
+}
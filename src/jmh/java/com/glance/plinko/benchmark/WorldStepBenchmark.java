@@ -0,0 +1,58 @@
+package com.glance.plinko.benchmark;
+
+import com.glance.plinko.platform.paper.game.simulation.PlinkoObject;
+import com.glance.plinko.platform.paper.game.simulation.PlinkoSimulator;
+import com.glance.plinko.platform.paper.game.simulation.PlinkoWorld;
+import com.glance.plinko.platform.paper.physics.broadphase.SpatialHashGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ball rain, many balls dropped together with ball-to-ball collisions
+ * <p>
+ * Scores are per world step over the first {@value #TICKS} ticks, while the rain is still
+ * falling through the pegs. The budget is 2 ms per tick at 200 balls
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WorldStepBenchmark {
+
+    private static final int TICKS = 100;
+
+    @Param({"50", "200"})
+    public int balls;
+
+    private final PlinkoSimulator simulator = new PlinkoSimulator();
+    private SpatialHashGrid grid;
+    private PlinkoWorld world;
+
+    @Setup(Level.Trial)
+    public void setupBoard() {
+        this.grid = new SpatialHashGrid(BenchmarkFixtures.board(500));
+    }
+
+    @Setup(Level.Invocation)
+    public void setupRain() {
+        this.world = simulator.newWorld(grid, balls, null);
+        for (PlinkoObject ball : BenchmarkFixtures.rain(balls)) world.spawn(ball);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public PlinkoWorld ballRain() {
+        for (int i = 0; i < TICKS; i++) world.step();
+        return world;
+    }
+
+}
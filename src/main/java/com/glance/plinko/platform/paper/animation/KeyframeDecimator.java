@@ -0,0 +1,119 @@
+package com.glance.plinko.platform.paper.animation;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+/**
+ * Drops keyframes the client can reproduce through display interpolation
+ * <p>
+ * A frame is dropped when its position and scale sit within tolerance of the linear
+ * interpolation, and its rotation within tolerance of the slerp, between the kept
+ * frames around it. First, last and collision frames are always kept
+ */
+@UtilityClass
+public class KeyframeDecimator {
+
+    public final float DEFAULT_POSITION_TOLERANCE = 0.02F;
+    public final float DEFAULT_ROTATION_TOLERANCE = (float) Math.toRadians(2.0);
+    public final int DEFAULT_MAX_SEGMENT_TICKS = 20;
+
+    public @NotNull PackedKeyframeTrack decimate(@NotNull KeyframeTrack source) {
+        return decimate(source, DEFAULT_POSITION_TOLERANCE, DEFAULT_ROTATION_TOLERANCE, DEFAULT_MAX_SEGMENT_TICKS);
+    }
+
+    /**
+     * @param positionTolerance max world distance a dropped frame may deviate from its lerp
+     * @param rotationTolerance max angle in radians a dropped frame may deviate from its slerp
+     * @param maxSegmentTicks longest interpolation span allowed between kept frames
+     */
+    public @NotNull PackedKeyframeTrack decimate(
+        @NotNull KeyframeTrack source,
+        float positionTolerance,
+        float rotationTolerance,
+        int maxSegmentTicks
+    ) {
+        int size = source.size();
+        PackedKeyframeTrack.Builder out = PackedKeyframeTrack.builder(Math.min(size, 16));
+        if (size == 0) return out.build();
+
+        Scratch s = new Scratch();
+        float positionTolSq = positionTolerance * positionTolerance;
+        float minRotationDot = (float) Math.cos(rotationTolerance / 2.0);
+
+        int anchor = 0;
+        append(out, source, anchor, s);
+
+        while (anchor < size - 1) {
+            int end = anchor + 1;
+            // Extend the segment while every frame inside it can be interpolated
+            while (end + 1 < size
+                    && !source.collision(end)
+                    && source.tick(end + 1) - source.tick(anchor) <= maxSegmentTicks
+                    && segmentFits(source, anchor, end + 1, positionTolSq, minRotationDot, s)) {
+                end++;
+            }
+
+            append(out, source, end, s);
+            anchor = end;
+        }
+
+        return out.build();
+    }
+
+    private boolean segmentFits(
+        @NotNull KeyframeTrack source,
+        int from,
+        int to,
+        float positionTolSq,
+        float minRotationDot,
+        @NotNull Scratch s
+    ) {
+        source.position(from, s.posA);
+        source.position(to, s.posB);
+        source.scale(from, s.scaleA);
+        source.scale(to, s.scaleB);
+        source.rotation(from, s.rotA);
+        source.rotation(to, s.rotB);
+
+        float span = source.tick(to) - source.tick(from);
+        for (int f = from + 1; f < to; f++) {
+            float t = (source.tick(f) - source.tick(from)) / span;
+
+            s.posA.lerp(s.posB, t, s.lerped);
+            if (source.position(f, s.actual).distanceSquared(s.lerped) > positionTolSq) return false;
+
+            s.scaleA.lerp(s.scaleB, t, s.lerped);
+            if (source.scale(f, s.actual).distanceSquared(s.lerped) > positionTolSq) return false;
+
+            s.rotA.slerp(s.rotB, t, s.slerped);
+            if (Math.abs(source.rotation(f, s.rotActual).dot(s.slerped)) < minRotationDot) return false;
+        }
+        return true;
+    }
+
+    private void append(
+        @NotNull PackedKeyframeTrack.Builder out,
+        @NotNull KeyframeTrack source,
+        int frame,
+        @NotNull Scratch s
+    ) {
+        out.add(
+            source.tick(frame),
+            source.position(frame, s.actual),
+            source.rotation(frame, s.rotActual),
+            source.scale(frame, s.scaleA),
+            source.collision(frame)
+        );
+    }
+
+    private static final class Scratch {
+        final Vector3f posA = new Vector3f(), posB = new Vector3f();
+        final Vector3f scaleA = new Vector3f(), scaleB = new Vector3f();
+        final Vector3f lerped = new Vector3f(), actual = new Vector3f();
+        final Quaternionf rotA = new Quaternionf(), rotB = new Quaternionf();
+        final Quaternionf slerped = new Quaternionf(), rotActual = new Quaternionf();
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.glance.plinko.platform.paper.animation;
+
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+/**
+ * Read-only, index addressed keyframe storage for a single animation
+ * <p>
+ * Accessors write into caller owned objects so playback can reuse
+ * the same scratch vectors every tick instead of materializing frames
+ */
+public interface KeyframeTrack {
+
+    /** @return the number of stored frames */
+    int size();
+
+    @NotNull Vector3f position(int frame, @NotNull Vector3f dest);
+
+    @NotNull Quaternionf rotation(int frame, @NotNull Quaternionf dest);
+
+    @NotNull Vector3f scale(int frame, @NotNull Vector3f dest);
+
+    boolean collision(int frame);
+
+    /**
+     * @return the simulation tick a frame was captured at, strictly ascending by frame
+     */
+    default int tick(int frame) {
+        return frame;
+    }
+
+    /**
+     * @return ticks spanned from the first frame through the last, inclusive
+     */
+    default int durationTicks() {
+        return size() == 0 ? 0 : tick(size() - 1) + 1;
+    }
+
+}
@@ -1,10 +1,15 @@
 package com.glance.plinko.platform.paper.animation;
 
-import com.glance.plinko.platform.paper.display.Transformer;
+import com.glance.plinko.platform.paper.display.DisplayUpdate;
 import com.glance.plinko.platform.paper.game.simulation.PlinkoObject;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.bukkit.entity.Display;
+import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
 
 import java.util.UUID;
 
@@ -14,8 +19,11 @@ public class ObjectAnimator {
     private final UUID animatorId = UUID.randomUUID();
     private final PlinkoObject object;
     private final PlinkoAnimation animation;
+    @Getter
     private final Display display;
     private int currentTick = 0;
+    private int nextFrame = 0;
+    private int nextSendTick = 0;
 
     public ObjectAnimator(
         @NotNull PlinkoAnimation animation,
@@ -27,15 +35,66 @@ public class ObjectAnimator {
         this.display = display;
     }
 
+    /**
+     * Advances one server tick and applies any update to the display immediately
+     * <p>
+     * Must run on the display's owning thread
+     *
+     * @return true once the animation has finished
+     */
     public boolean tick() {
-        PlinkoKeyframe frame = animation.getFrame(currentTick++);
-        if (frame == null) return true;
+        DisplayUpdate update = advance();
+        if (update != null) update.applyTo(display);
+        return isFinished();
+    }
+
+    /**
+     * Advances one server tick without touching the entity
+     * <p>
+     * Each stored frame is emitted once, as soon as the previous one has been reached,
+     * with an interpolation duration covering the ticks between them. Undecimated
+     * tracks therefore still emit every tick with a duration of 1
+     *
+     * @return the update to apply on the entity's thread, or null if nothing changes this tick
+     */
+    public @Nullable DisplayUpdate advance() {
+        return advance(1);
+    }
+
+    /**
+     * Advances {@code ticks} server ticks at once, for callers that missed some
+     * <p>
+     * Only the latest frame reached is returned, its interpolation shortened by however late
+     * it is so the entity still lands on that frame's next tick and playback stays on schedule
+     *
+     * @return the update to apply on the entity's thread, or null if nothing changes over these ticks
+     */
+    public @Nullable DisplayUpdate advance(int ticks) {
+        KeyframeTrack track = animation.track();
+        int now = currentTick;
+        int frame = -1;
 
-        Transformer.renderAt(display, frame.position(), 1, transform -> {
-            transform.getLeftRotation().set(frame.rotation());
-            transform.getScale().set(frame.scale3f());
-        });
+        for (int i = 0; i < ticks; i++) {
+            now = currentTick++;
+            if (nextFrame >= track.size() || now < nextSendTick) continue;
+
+            frame = nextFrame++;
+            int previousTick = frame == 0 ? -1 : track.tick(frame - 1);
+            nextSendTick = now + Math.max(1, track.tick(frame) - previousTick);
+        }
+        if (frame < 0) return null;
+
+        int duration = Math.max(1, nextSendTick - now);
+        Vector3f position = track.position(frame, new Vector3f());
+        return new DisplayUpdate(
+            new Vector(position.x, position.y, position.z),
+            track.rotation(frame, new Quaternionf()),
+            track.scale(frame, new Vector3f()),
+            duration
+        );
+    }
 
+    public boolean isFinished() {
         return currentTick >= animation.totalTicks();
     }
 
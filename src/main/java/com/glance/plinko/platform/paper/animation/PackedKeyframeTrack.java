@@ -0,0 +1,164 @@
+package com.glance.plinko.platform.paper.animation;
+
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Full precision keyframes packed into flat float arrays
+ * <p>
+ * Position (3), rotation (4, xyzw) and scale (3) per frame, collision flags in a bitset
+ * and the capture tick of each frame, which may skip ticks once decimated
+ */
+public final class PackedKeyframeTrack implements KeyframeTrack {
+
+    private final int size;
+    private final int[] ticks;
+    private final float[] positions;
+    private final float[] rotations;
+    private final float[] scales;
+    private final BitSet collisions;
+
+    private PackedKeyframeTrack(
+        int size,
+        int[] ticks,
+        float[] positions,
+        float[] rotations,
+        float[] scales,
+        BitSet collisions
+    ) {
+        this.size = size;
+        this.ticks = ticks;
+        this.positions = positions;
+        this.rotations = rotations;
+        this.scales = scales;
+        this.collisions = collisions;
+    }
+
+    public static Builder builder(int expectedFrames) {
+        return new Builder(expectedFrames);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @NotNull Vector3f position(int frame, @NotNull Vector3f dest) {
+        int o = frame * 3;
+        return dest.set(positions[o], positions[o + 1], positions[o + 2]);
+    }
+
+    @Override
+    public @NotNull Quaternionf rotation(int frame, @NotNull Quaternionf dest) {
+        int o = frame * 4;
+        return dest.set(rotations[o], rotations[o + 1], rotations[o + 2], rotations[o + 3]);
+    }
+
+    @Override
+    public @NotNull Vector3f scale(int frame, @NotNull Vector3f dest) {
+        int o = frame * 3;
+        return dest.set(scales[o], scales[o + 1], scales[o + 2]);
+    }
+
+    @Override
+    public boolean collision(int frame) {
+        return collisions.get(frame);
+    }
+
+    @Override
+    public int tick(int frame) {
+        return ticks[frame];
+    }
+
+    public static final class Builder {
+        private int size;
+        private int[] ticks;
+        private float[] positions;
+        private float[] rotations;
+        private float[] scales;
+        private final BitSet collisions = new BitSet();
+
+        private Builder(int expectedFrames) {
+            int capacity = Math.max(1, expectedFrames);
+            this.ticks = new int[capacity];
+            this.positions = new float[capacity * 3];
+            this.rotations = new float[capacity * 4];
+            this.scales = new float[capacity * 3];
+        }
+
+        /**
+         * Appends a frame captured on the tick after the previous frame
+         */
+        public Builder add(
+            @NotNull Vector3f position,
+            @NotNull Quaternionf rotation,
+            @NotNull Vector3f scale,
+            boolean collision
+        ) {
+            return add(size == 0 ? 0 : ticks[size - 1] + 1, position, rotation, scale, collision);
+        }
+
+        public Builder add(
+            int tick,
+            @NotNull Vector3f position,
+            @NotNull Quaternionf rotation,
+            @NotNull Vector3f scale,
+            boolean collision
+        ) {
+            if (size > 0 && tick <= ticks[size - 1]) {
+                throw new IllegalArgumentException("Frame tick " + tick + " is not after " + ticks[size - 1]);
+            }
+            if (size == ticks.length) grow();
+
+            ticks[size] = tick;
+
+            int p = size * 3;
+            positions[p] = position.x;
+            positions[p + 1] = position.y;
+            positions[p + 2] = position.z;
+
+            int r = size * 4;
+            rotations[r] = rotation.x;
+            rotations[r + 1] = rotation.y;
+            rotations[r + 2] = rotation.z;
+            rotations[r + 3] = rotation.w;
+
+            scales[p] = scale.x;
+            scales[p + 1] = scale.y;
+            scales[p + 2] = scale.z;
+
+            if (collision) collisions.set(size);
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public PackedKeyframeTrack build() {
+            return new PackedKeyframeTrack(
+                size,
+                Arrays.copyOf(ticks, size),
+                Arrays.copyOf(positions, size * 3),
+                Arrays.copyOf(rotations, size * 4),
+                Arrays.copyOf(scales, size * 3),
+                (BitSet) collisions.clone()
+            );
+        }
+
+        private void grow() {
+            int capacity = Math.max(8, size * 2);
+            ticks = Arrays.copyOf(ticks, capacity);
+            positions = Arrays.copyOf(positions, capacity * 3);
+            rotations = Arrays.copyOf(rotations, capacity * 4);
+            scales = Arrays.copyOf(scales, capacity * 3);
+        }
+    }
+
+}
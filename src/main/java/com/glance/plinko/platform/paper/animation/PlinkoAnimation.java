@@ -1,20 +1,56 @@
 package com.glance.plinko.platform.paper.animation;
 
-import java.util.List;
+import org.bukkit.util.Transformation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
 import java.util.UUID;
 
 public record PlinkoAnimation(
         UUID id,
-        List<PlinkoKeyframe> frames,
+        KeyframeTrack track,
         int finalSlot
 ) {
 
-    public PlinkoKeyframe getFrame(int tick) {
-        return (tick >= 0 && tick < totalTicks()) ? frames.get(tick) : null;
+    /**
+     * Materializes a single stored frame
+     * <p>
+     * Allocates a full {@link Transformation}, playback should read {@link #track()} directly
+     */
+    public @Nullable PlinkoKeyframe getFrame(int frame) {
+        if (frame < 0 || frame >= track.size()) return null;
+
+        Transformation transform = new Transformation(
+                track.position(frame, new Vector3f()),
+                track.rotation(frame, new Quaternionf()),
+                track.scale(frame, new Vector3f()),
+                new Quaternionf()
+        );
+        return new PlinkoKeyframe(transform, track.collision(frame), track.tick(frame));
     }
 
+    /**
+     * @return ticks the animation spans, which may exceed the stored frame count once decimated
+     */
     public int totalTicks() {
-        return frames.size();
+        return track.durationTicks();
+    }
+
+    /**
+     * @return a copy of this animation with interpolatable frames dropped
+     * @see KeyframeDecimator
+     */
+    public @NotNull PlinkoAnimation decimated() {
+        return new PlinkoAnimation(id, KeyframeDecimator.decimate(track), finalSlot);
+    }
+
+    /**
+     * @return a copy of this animation with positions and rotations quantized around {@code origin}
+     */
+    public @NotNull PlinkoAnimation quantized(@NotNull Vector3f origin) {
+        return new PlinkoAnimation(id, QuantizedKeyframeTrack.of(track, origin), finalSlot);
     }
 
 }
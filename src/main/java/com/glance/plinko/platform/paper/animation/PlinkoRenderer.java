@@ -4,22 +4,37 @@ import com.glance.plinko.utils.lifecycle.Manager;
 import com.google.auto.service.AutoService;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import lombok.extern.slf4j.Slf4j;
 import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
+/**
+ * Plays {@link ObjectAnimator}s, sharded by world region
+ * <p>
+ * Every tick each shard computes its display updates in parallel off-thread, then hands
+ * the batch to the region scheduler so entity mutations happen on the owning thread
+ * (the main thread on Paper, the region thread on Folia)
+ */
+@Slf4j
 @Singleton
 @AutoService(Manager.class)
 public final class PlinkoRenderer implements Manager {
 
     private final Plugin plugin;
-    private final Set<ObjectAnimator> activeAnimations = ConcurrentHashMap.newKeySet();
-    private BukkitTask renderTask;
+    private final Map<RenderShardKey, RenderShard> shards = new ConcurrentHashMap<>();
+    private ScheduledTask renderTask;
 
     @Inject
     public PlinkoRenderer(@NotNull final Plugin plugin) {
@@ -27,25 +42,45 @@ public final class PlinkoRenderer implements Manager {
     }
 
     public void add(@NotNull ObjectAnimator animator) {
-        this.activeAnimations.add(animator);
+        RenderShardKey key = RenderShardKey.of(animator.getDisplay().getLocation());
+        shards.compute(key, (k, shard) -> {
+            if (shard == null) shard = new RenderShard(k);
+            shard.add(animator);
+            return shard;
+        });
     }
 
     public void start() {
         if (renderTask != null) return;
+        renderTask = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, task -> tickShards(), 1L, 1L);
+    }
 
-        renderTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
-            Iterator<ObjectAnimator> iterator = activeAnimations.iterator();
+    private void tickShards() {
+        for (RenderShard shard : shards.values()) {
+            if (!shard.tryBegin()) continue; // last tick still in flight, the shard catches up next time
 
-            while (iterator.hasNext()) {
-                ObjectAnimator animator = iterator.next();
-                boolean finished = animator.tick();
+            RenderShardKey key = shard.key();
+            CompletableFuture.runAsync(shard::advance, ForkJoinPool.commonPool())
+                .whenComplete((v, error) -> {
+                    if (error != null) {
+                        log.error("Render shard {} failed to advance", key, error);
+                        shard.abort();
+                        return;
+                    }
 
-                if (finished) {
-                    iterator.remove();
-                }
-            }
+                    World world = Bukkit.getWorld(key.world());
+                    if (world == null) {
+                        shard.abort();
+                        return;
+                    }
+                    Bukkit.getRegionScheduler().execute(plugin, world, key.chunkX(), key.chunkZ(), shard::apply);
+                });
+        }
 
-        }, 1L, 1L);
+        // Drop shards with nothing left to play
+        for (RenderShardKey key : List.copyOf(shards.keySet())) {
+            shards.computeIfPresent(key, (k, shard) -> shard.isIdle() ? null : shard);
+        }
     }
 
     @Override
@@ -54,7 +89,16 @@ public final class PlinkoRenderer implements Manager {
     }
 
     public Set<ObjectAnimator> activeAnimations() {
-        return Set.copyOf(activeAnimations);
+        Set<ObjectAnimator> all = new HashSet<>();
+        for (RenderShard shard : shards.values()) all.addAll(shard.animators());
+        return Set.copyOf(all);
+    }
+
+    /** @return the last measured tick cost of every shard */
+    public List<RenderShardTiming> shardTimings() {
+        List<RenderShardTiming> timings = new ArrayList<>(shards.size());
+        for (RenderShard shard : shards.values()) timings.add(shard.timing());
+        return timings;
     }
 
     @Override
@@ -63,6 +107,7 @@ public final class PlinkoRenderer implements Manager {
             this.renderTask.cancel();
             this.renderTask = null;
         }
+        shards.clear();
     }
 
 }
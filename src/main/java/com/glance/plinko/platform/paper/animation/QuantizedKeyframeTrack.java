@@ -0,0 +1,161 @@
+package com.glance.plinko.platform.paper.animation;
+
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.BitSet;
+
+/**
+ * Keyframes with position and rotation quantized to shorts
+ * <p>
+ * Positions are stored relative to an origin (usually the board origin) in steps sized
+ * so the furthest frame just fits in a short, rotations as unit components scaled by
+ * {@link Short#MAX_VALUE} and renormalized on read. Scale stays full precision
+ */
+public final class QuantizedKeyframeTrack implements KeyframeTrack {
+
+    public static final float ROTATION_SCALE = Short.MAX_VALUE;
+    private static final float MIN_STEP = 1e-6f;
+
+    private final int size;
+    private final int[] ticks;
+    private final float originX, originY, originZ;
+    private final float step;
+    private final short[] positions;
+    private final short[] rotations;
+    private final float[] scales;
+    private final BitSet collisions;
+
+    private QuantizedKeyframeTrack(
+        int size,
+        int[] ticks,
+        @NotNull Vector3f origin,
+        float step,
+        short[] positions,
+        short[] rotations,
+        float[] scales,
+        BitSet collisions
+    ) {
+        this.size = size;
+        this.ticks = ticks;
+        this.originX = origin.x;
+        this.originY = origin.y;
+        this.originZ = origin.z;
+        this.step = step;
+        this.positions = positions;
+        this.rotations = rotations;
+        this.scales = scales;
+        this.collisions = collisions;
+    }
+
+    /**
+     * Quantizes an existing track around the given origin
+     */
+    public static QuantizedKeyframeTrack of(@NotNull KeyframeTrack source, @NotNull Vector3f origin) {
+        int size = source.size();
+        Vector3f pos = new Vector3f();
+        Quaternionf rot = new Quaternionf();
+        Vector3f scale = new Vector3f();
+
+        float step = stepFor(source, origin);
+        float invStep = 1f / step;
+
+        int[] ticks = new int[size];
+        short[] positions = new short[size * 3];
+        short[] rotations = new short[size * 4];
+        float[] scales = new float[size * 3];
+        BitSet collisions = new BitSet(size);
+
+        for (int f = 0; f < size; f++) {
+            ticks[f] = source.tick(f);
+
+            source.position(f, pos).sub(origin);
+            int p = f * 3;
+            positions[p] = quantize(pos.x * invStep);
+            positions[p + 1] = quantize(pos.y * invStep);
+            positions[p + 2] = quantize(pos.z * invStep);
+
+            source.rotation(f, rot).normalize();
+            int r = f * 4;
+            rotations[r] = quantize(rot.x * ROTATION_SCALE);
+            rotations[r + 1] = quantize(rot.y * ROTATION_SCALE);
+            rotations[r + 2] = quantize(rot.z * ROTATION_SCALE);
+            rotations[r + 3] = quantize(rot.w * ROTATION_SCALE);
+
+            source.scale(f, scale);
+            scales[p] = scale.x;
+            scales[p + 1] = scale.y;
+            scales[p + 2] = scale.z;
+
+            if (source.collision(f)) collisions.set(f);
+        }
+
+        return new QuantizedKeyframeTrack(size, ticks, origin, step, positions, rotations, scales, collisions);
+    }
+
+    /**
+     * @return the smallest position step that fits every frame of {@code source} around {@code origin}
+     */
+    public static float stepFor(@NotNull KeyframeTrack source, @NotNull Vector3f origin) {
+        Vector3f pos = new Vector3f();
+        float maxOffset = 0f;
+        for (int f = 0; f < source.size(); f++) {
+            source.position(f, pos).sub(origin);
+            maxOffset = Math.max(maxOffset, Math.max(Math.abs(pos.x), Math.max(Math.abs(pos.y), Math.abs(pos.z))));
+        }
+        return Math.max(MIN_STEP, maxOffset / Short.MAX_VALUE);
+    }
+
+    public static short quantize(float v) {
+        return (short) Math.max(-Short.MAX_VALUE, Math.min(Short.MAX_VALUE, Math.round(v)));
+    }
+
+    /** @return world units per quantization step */
+    public float step() {
+        return step;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @NotNull Vector3f position(int frame, @NotNull Vector3f dest) {
+        int o = frame * 3;
+        return dest.set(
+            originX + positions[o] * step,
+            originY + positions[o + 1] * step,
+            originZ + positions[o + 2] * step
+        );
+    }
+
+    @Override
+    public @NotNull Quaternionf rotation(int frame, @NotNull Quaternionf dest) {
+        int o = frame * 4;
+        return dest.set(
+            rotations[o] / ROTATION_SCALE,
+            rotations[o + 1] / ROTATION_SCALE,
+            rotations[o + 2] / ROTATION_SCALE,
+            rotations[o + 3] / ROTATION_SCALE
+        ).normalize();
+    }
+
+    @Override
+    public @NotNull Vector3f scale(int frame, @NotNull Vector3f dest) {
+        int o = frame * 3;
+        return dest.set(scales[o], scales[o + 1], scales[o + 2]);
+    }
+
+    @Override
+    public boolean collision(int frame) {
+        return collisions.get(frame);
+    }
+
+    @Override
+    public int tick(int frame) {
+        return ticks[frame];
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.glance.plinko.platform.paper.animation;
+
+import com.glance.plinko.platform.paper.display.DisplayUpdate;
+import org.bukkit.entity.Display;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Animators sharing an owning thread, ticked as one unit
+ * <p>
+ * {@link #advance()} runs on a worker and only computes updates, {@link #apply()} then
+ * runs on the owning thread and touches the entities. {@link #tryBegin()} guards against
+ * overlapping ticks, so the batch is only ever touched by one of the two at a time
+ * <p>
+ * Ticks skipped while busy are counted and the next advance covers them too, so a slow
+ * shard delays its updates but never slows playback down
+ */
+final class RenderShard {
+
+    private final RenderShardKey key;
+    private final Set<ObjectAnimator> animators = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean busy = new AtomicBoolean();
+    private final AtomicInteger missedTicks = new AtomicInteger();
+
+    private final List<Display> batchDisplays = new ArrayList<>();
+    private final List<DisplayUpdate> batchUpdates = new ArrayList<>();
+
+    private volatile long lastAdvanceNanos;
+    private volatile long lastApplyNanos;
+
+    RenderShard(@NotNull RenderShardKey key) {
+        this.key = key;
+    }
+
+    RenderShardKey key() {
+        return key;
+    }
+
+    void add(@NotNull ObjectAnimator animator) {
+        animators.add(animator);
+    }
+
+    Set<ObjectAnimator> animators() {
+        return animators;
+    }
+
+    boolean isIdle() {
+        return animators.isEmpty() && !busy.get();
+    }
+
+    /** @return false if the previous tick is still in flight, that tick is then made up on the next advance */
+    boolean tryBegin() {
+        if (busy.compareAndSet(false, true)) return true;
+        missedTicks.incrementAndGet();
+        return false;
+    }
+
+    void advance() {
+        long start = System.nanoTime();
+        int ticks = 1 + missedTicks.getAndSet(0);
+
+        Iterator<ObjectAnimator> iterator = animators.iterator();
+        while (iterator.hasNext()) {
+            ObjectAnimator animator = iterator.next();
+            DisplayUpdate update = animator.advance(ticks);
+            if (update != null) {
+                batchDisplays.add(animator.getDisplay());
+                batchUpdates.add(update);
+            }
+            if (animator.isFinished()) iterator.remove();
+        }
+
+        lastAdvanceNanos = System.nanoTime() - start;
+    }
+
+    void apply() {
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < batchUpdates.size(); i++) {
+                Display display = batchDisplays.get(i);
+                if (display.isValid()) batchUpdates.get(i).applyTo(display);
+            }
+        } finally {
+            batchDisplays.clear();
+            batchUpdates.clear();
+            lastApplyNanos = System.nanoTime() - start;
+            busy.set(false);
+        }
+    }
+
+    /** Drops a batch that can no longer be applied */
+    void abort() {
+        batchDisplays.clear();
+        batchUpdates.clear();
+        busy.set(false);
+    }
+
+    RenderShardTiming timing() {
+        return new RenderShardTiming(key, animators.size(), lastAdvanceNanos, lastApplyNanos);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.glance.plinko.platform.paper.animation;
+
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Identifies a render shard: a square of chunks in one world
+ * <p>
+ * Sized like a Folia region so every display in a shard is owned by the same thread
+ */
+public record RenderShardKey(UUID world, int regionX, int regionZ) {
+
+    public static final int REGION_SHIFT = 3; // 8x8 chunks
+
+    public static @NotNull RenderShardKey of(@NotNull Location location) {
+        return new RenderShardKey(
+            location.getWorld().getUID(),
+            (location.getBlockX() >> 4) >> REGION_SHIFT,
+            (location.getBlockZ() >> 4) >> REGION_SHIFT
+        );
+    }
+
+    public int chunkX() {
+        return regionX << REGION_SHIFT;
+    }
+
+    public int chunkZ() {
+        return regionZ << REGION_SHIFT;
+    }
+
+}
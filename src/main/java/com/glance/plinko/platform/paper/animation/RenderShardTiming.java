@@ -0,0 +1,16 @@
+package com.glance.plinko.platform.paper.animation;
+
+/**
+ * Last measured tick cost of a render shard
+ *
+ * @param key The shard
+ * @param animators Animators currently in the shard
+ * @param advanceNanos Time spent computing updates off-thread
+ * @param applyNanos Time spent applying updates on the owning thread
+ */
+public record RenderShardTiming(
+    RenderShardKey key,
+    int animators,
+    long advanceNanos,
+    long applyNanos
+) {}
@@ -2,17 +2,23 @@ package com.glance.plinko.platform.paper.command.debug;
 
 import com.glance.plinko.platform.paper.animation.ObjectAnimator;
 import com.glance.plinko.platform.paper.animation.PlinkoAnimation;
+import com.glance.plinko.platform.paper.animation.RenderShardTiming;
 import com.glance.plinko.platform.paper.command.engine.CommandHandler;
 import com.glance.plinko.platform.paper.config.PlinkoObjectConfig;
 import com.glance.plinko.platform.paper.display.DisplayOptions;
 import com.glance.plinko.platform.paper.display.PlinkoDisplayFactory;
 import com.glance.plinko.platform.paper.animation.PlinkoRenderer;
 import com.glance.plinko.platform.paper.display.Transformer;
+import com.glance.plinko.platform.paper.game.BoardLayout;
+import com.glance.plinko.platform.paper.game.BoardRegistry;
+import com.glance.plinko.platform.paper.game.PlinkoBoard;
 import com.glance.plinko.platform.paper.game.simulation.PlinkoObject;
 import com.glance.plinko.platform.paper.game.simulation.PlinkoRunContext;
 import com.glance.plinko.platform.paper.game.simulation.PlinkoSimulator;
 import com.glance.plinko.platform.paper.game.simulation.factory.PlinkoObjectFactory;
 import com.glance.plinko.platform.paper.game.simulation.obstacle.PegFactory;
+import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
+import com.glance.plinko.platform.paper.physics.shape.StaticObstacle;
 import com.google.auto.service.AutoService;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -28,6 +34,7 @@ import org.bukkit.scheduler.BukkitRunnable;
 import org.incendo.cloud.annotations.Argument;
 import org.incendo.cloud.annotations.Command;
 import org.jetbrains.annotations.NotNull;
+import org.joml.Vector3f;
 
 import java.util.List;
 import java.util.UUID;
@@ -42,6 +49,7 @@ public class CollisionDebugCommands implements CommandHandler {
     private final PlinkoSimulator simulator;
     private final PlinkoObjectFactory objectFactory;
     private final PlinkoDisplayFactory displayFactory;
+    private final BoardRegistry boards;
 
     @Inject
     public CollisionDebugCommands(
@@ -49,13 +57,15 @@ public class CollisionDebugCommands implements CommandHandler {
             @NotNull final PlinkoRenderer renderer,
             @NotNull final PlinkoSimulator simulator,
             @NotNull final PlinkoObjectFactory objectFactory,
-            @NotNull final PlinkoDisplayFactory displayFactory
+            @NotNull final PlinkoDisplayFactory displayFactory,
+            @NotNull final BoardRegistry boards
     ) {
         this.plugin = plugin;
         this.renderer = renderer;
         this.simulator = simulator;
         this.objectFactory = objectFactory;
         this.displayFactory = displayFactory;
+        this.boards = boards;
     }
 
     @Command("debug-collision <offset-x> <offset-z> <height> <material>")
@@ -71,16 +81,15 @@ public class CollisionDebugCommands implements CommandHandler {
         origin.setPitch(0F);
 
         Location pegLoc = origin.clone().subtract(0, height, 0);
-        // TODO: peg should itself be a plinko object - or one that extends it, as an infinite mass display
 
         PlinkoObjectConfig config = PlinkoObjectConfig.defaults(material);
 
         PlinkoRunContext ctx = new PlinkoRunContext(UUID.randomUUID(), config, origin, false);
 
         PlinkoObject object = objectFactory.create(ctx);
-        PlinkoObject peg = PegFactory.createPeg(pegLoc, 0.75F);
+        StaticObstacle peg = PegFactory.createObstacle(pegLoc, 0.75F);
 
-        PlinkoAnimation animation = simulator.simulate(ctx, object, List.of(peg.currentShape()));
+        PlinkoAnimation animation = simulator.simulate(object, List.of(peg.shape())).decimated();
         Display display = displayFactory.createDisplay(ctx);
         Display pegDisplay = displayFactory.createPegDisplay(
                 pegLoc, DisplayOptions.defaultItem(Material.GOLD_BLOCK));
@@ -95,6 +104,50 @@ public class CollisionDebugCommands implements CommandHandler {
         player.sendMessage("Running collision debug!");
     }
 
+    @Command("debug-board <rows> <material>")
+    public void runBoardDebug(
+        final @NotNull Player player,
+        final @Argument("rows") int rows,
+        final @Argument("material") Material material
+    ) {
+        Location top = player.getLocation().add(0, rows * 1.25 + 2.0, 3.0);
+        top.setYaw(0F);
+        top.setPitch(0F);
+
+        BoardLayout layout = BoardLayout.builder()
+                .origin(new Vector3f((float) top.getX(), (float) top.getY(), (float) top.getZ()))
+                .rows(rows)
+                .build();
+        PlinkoBoard board = boards.board(layout);
+
+        for (PhysicsShape peg : board.pegs()) {
+            Vector3f c = peg.center();
+            displayFactory.createPegDisplay(
+                    new Location(top.getWorld(), c.x, c.y, c.z),
+                    DisplayOptions.defaultItem(Material.GOLD_BLOCK));
+        }
+
+        PlinkoRunContext ctx = new PlinkoRunContext(
+                UUID.randomUUID(), PlinkoObjectConfig.defaults(material), top.clone().add(0, 1.5, 0), false);
+        PlinkoObject object = objectFactory.create(ctx);
+        PlinkoAnimation animation = simulator.simulate(object, board).decimated();
+
+        renderer.add(new ObjectAnimator(animation, object, displayFactory.createDisplay(ctx)));
+        player.sendMessage("Dropping on board " + Long.toHexString(board.contentHash())
+                + ", lands in slot " + animation.finalSlot() + " of " + board.slots().slotCount());
+    }
+
+    @Command("debug-render-stats")
+    public void showRenderStats(final @NotNull Player player) {
+        List<RenderShardTiming> timings = renderer.shardTimings();
+        player.sendMessage("Render shards: " + timings.size());
+        for (RenderShardTiming timing : timings) {
+            player.sendMessage(String.format(" [%d, %d] animators=%d advance=%.3fms apply=%.3fms",
+                timing.key().regionX(), timing.key().regionZ(), timing.animators(),
+                timing.advanceNanos() / 1_000_000D, timing.applyNanos() / 1_000_000D));
+        }
+    }
+
 //    private void createTest(Location loc) {
 //        Location bLoc = loc.clone().add(2.0, 0.0, 0.0);
 //        Display d = bLoc.getWorld().spawn(bLoc, BlockDisplay.class, b -> {
@@ -0,0 +1,28 @@
+package com.glance.plinko.platform.paper.config;
+
+/**
+ * Tuning for the sequential-impulse contact solver
+ *
+ * @param velocityIterations passes over every contact solving normal and friction impulses
+ * @param positionIterations passes solving the split-impulse penetration correction
+ * @param baumgarte share of the penetration beyond the slop removed per tick
+ * @param slop penetration left alone so resting contacts stay touching
+ */
+public record SolverConfig(
+    int velocityIterations,
+    int positionIterations,
+    float baumgarte,
+    float slop
+) {
+
+    public SolverConfig {
+        if (velocityIterations < 1) throw new IllegalArgumentException("velocityIterations must be at least 1");
+        if (positionIterations < 0) throw new IllegalArgumentException("positionIterations must not be negative");
+        if (baumgarte < 0F || baumgarte > 1F) throw new IllegalArgumentException("baumgarte must be in [0, 1]");
+    }
+
+    public static SolverConfig defaults() {
+        return new SolverConfig(8, 3, 0.4F, 0.001F);
+    }
+
+}
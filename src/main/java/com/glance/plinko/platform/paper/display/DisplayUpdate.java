@@ -0,0 +1,33 @@
+package com.glance.plinko.platform.paper.display;
+
+import org.bukkit.entity.Display;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+/**
+ * A single pending transform for a display, computed off-thread and applied on the
+ * thread that owns the entity
+ *
+ * @param position World position to render at
+ * @param rotation Left rotation
+ * @param scale Scale
+ * @param duration Interpolation duration in ticks
+ */
+public record DisplayUpdate(
+    Vector position,
+    Quaternionf rotation,
+    Vector3f scale,
+    int duration
+) {
+
+    /** Must run on the entity's owning thread */
+    public void applyTo(@NotNull Display display) {
+        Transformer.renderAt(display, position, duration, transform -> {
+            transform.getLeftRotation().set(rotation);
+            transform.getScale().set(scale);
+        });
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.glance.plinko.platform.paper.game;
+
+import com.glance.plinko.platform.paper.config.SolverConfig;
+import com.glance.plinko.platform.paper.physics.shape.ShapeType;
+import org.joml.Vector3f;
+
+/**
+ * Declarative description of a triangular plinko board, turned into geometry by
+ * {@link PlinkoBoard#compile(BoardLayout)}
+ * <p>
+ * Row {@code r} holds {@code firstRowPegs + r} pegs centred on the board's vertical axis,
+ * each row {@code rowHeight} below the previous. Slots are the gaps between the last row's
+ * pegs, a divider hangs under every inner last-row peg and a bucket wall under both outer ones
+ *
+ * @param origin Centre of the top peg row
+ * @param axis Horizontal direction across the board, normalized on construction
+ * @param rows Number of peg rows
+ * @param firstRowPegs Pegs in the top row
+ * @param spacing Distance between neighbouring pegs in a row
+ * @param rowHeight Vertical distance between rows
+ * @param pegShape OBB for block pegs, SPHERE for round ones
+ * @param pegSize Full width of a peg
+ * @param pegYaw Peg rotation about the vertical in degrees, relative to the board axis, ignored for spheres
+ * @param dividerHeight Height of slot dividers and bucket walls, 0 for none
+ * @param dividerThickness Thickness of the dividers between slots
+ * @param wallThickness Thickness of the two outer bucket walls
+ * @param substeps Physics steps per displayed tick, up to {@value #MAX_SUBSTEPS}. More steps resolve fast
+ *                 contacts better and cost proportionally more CPU, keyframes stay one per tick
+ * @param solver Contact solver iterations and correction for drops on this board
+ */
+public record BoardLayout(
+    Vector3f origin,
+    Vector3f axis,
+    int rows,
+    int firstRowPegs,
+    float spacing,
+    float rowHeight,
+    ShapeType pegShape,
+    float pegSize,
+    float pegYaw,
+    float dividerHeight,
+    float dividerThickness,
+    float wallThickness,
+    int substeps,
+    SolverConfig solver
+) {
+
+    public static final int MAX_SUBSTEPS = 16;
+
+    public BoardLayout {
+        if (rows < 1) throw new IllegalArgumentException("rows must be at least 1");
+        if (firstRowPegs < 1) throw new IllegalArgumentException("firstRowPegs must be at least 1");
+        if (firstRowPegs + rows < 3) throw new IllegalArgumentException("the last row needs at least 2 pegs to form a slot");
+        if (spacing <= 0F) throw new IllegalArgumentException("spacing must be positive");
+        if (rowHeight <= 0F) throw new IllegalArgumentException("rowHeight must be positive");
+        if (pegSize <= 0F || pegSize >= spacing) throw new IllegalArgumentException("pegSize must be in (0, spacing)");
+        if (dividerHeight < 0F) throw new IllegalArgumentException("dividerHeight must not be negative");
+        if (dividerHeight > 0F && (dividerThickness <= 0F || wallThickness <= 0F)) {
+            throw new IllegalArgumentException("divider and wall thickness must be positive");
+        }
+        if (substeps < 1 || substeps > MAX_SUBSTEPS) {
+            throw new IllegalArgumentException("substeps must be in [1, " + MAX_SUBSTEPS + "]");
+        }
+        if (solver == null) throw new IllegalArgumentException("solver must not be null");
+        axis = new Vector3f(axis.x, 0F, axis.z).normalize();
+        origin = new Vector3f(origin);
+    }
+
+    /** @return a copy, the layout is a registry key and must not change */
+    @Override
+    public Vector3f origin() {
+        return new Vector3f(origin);
+    }
+
+    /** @return a copy, the layout is a registry key and must not change */
+    @Override
+    public Vector3f axis() {
+        return new Vector3f(axis);
+    }
+
+    /** @return pegs in the bottom row, which also bound the slots */
+    public int lastRowPegs() {
+        return firstRowPegs + rows - 1;
+    }
+
+    public int slotCount() {
+        return lastRowPegs() - 1;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private Vector3f origin = new Vector3f();
+        private Vector3f axis = new Vector3f(1F, 0F, 0F);
+        private int rows = 8;
+        private int firstRowPegs = 3;
+        private float spacing = 1.5F;
+        private float rowHeight = 1.25F;
+        private ShapeType pegShape = ShapeType.OBB;
+        private float pegSize = 0.75F;
+        private float pegYaw = 45F;
+        private float dividerHeight = 1.5F;
+        private float dividerThickness = 0.25F;
+        private float wallThickness = 0.25F;
+        private int substeps = 1;
+        private SolverConfig solver = SolverConfig.defaults();
+
+        public Builder origin(Vector3f origin) {
+            this.origin = origin;
+            return this;
+        }
+
+        public Builder axis(Vector3f axis) {
+            this.axis = axis;
+            return this;
+        }
+
+        public Builder rows(int rows) {
+            this.rows = rows;
+            return this;
+        }
+
+        public Builder firstRowPegs(int pegs) {
+            this.firstRowPegs = pegs;
+            return this;
+        }
+
+        public Builder spacing(float spacing) {
+            this.spacing = spacing;
+            return this;
+        }
+
+        public Builder rowHeight(float rowHeight) {
+            this.rowHeight = rowHeight;
+            return this;
+        }
+
+        public Builder pegShape(ShapeType shape) {
+            this.pegShape = shape;
+            return this;
+        }
+
+        public Builder pegSize(float size) {
+            this.pegSize = size;
+            return this;
+        }
+
+        public Builder pegYaw(float degrees) {
+            this.pegYaw = degrees;
+            return this;
+        }
+
+        public Builder dividerHeight(float height) {
+            this.dividerHeight = height;
+            return this;
+        }
+
+        public Builder dividerThickness(float thickness) {
+            this.dividerThickness = thickness;
+            return this;
+        }
+
+        public Builder wallThickness(float thickness) {
+            this.wallThickness = thickness;
+            return this;
+        }
+
+        public Builder substeps(int substeps) {
+            this.substeps = substeps;
+            return this;
+        }
+
+        public Builder solver(SolverConfig solver) {
+            this.solver = solver;
+            return this;
+        }
+
+        public BoardLayout build() {
+            return new BoardLayout(origin, axis, rows, firstRowPegs, spacing, rowHeight,
+                pegShape, pegSize, pegYaw, dividerHeight, dividerThickness, wallThickness, substeps, solver);
+        }
+    }
+
+}
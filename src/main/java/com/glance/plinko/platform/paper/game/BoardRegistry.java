@@ -0,0 +1,45 @@
+package com.glance.plinko.platform.paper.game;
+
+import com.glance.plinko.utils.lifecycle.Manager;
+import com.google.auto.service.AutoService;
+import com.google.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles each distinct {@link BoardLayout} once and hands out the shared {@link PlinkoBoard}
+ * <p>
+ * Thread-safe, boards can be requested from simulation workers
+ */
+@Slf4j
+@Singleton
+@AutoService(Manager.class)
+public class BoardRegistry implements Manager {
+
+    private final Map<BoardLayout, PlinkoBoard> boards = new ConcurrentHashMap<>();
+
+    /**
+     * @return the compiled board for this layout, compiling it on first use
+     */
+    public @NotNull PlinkoBoard board(@NotNull BoardLayout layout) {
+        return boards.computeIfAbsent(layout, l -> {
+            PlinkoBoard board = PlinkoBoard.compile(l);
+            log.info("Compiled board {} with {} pegs and {} slots",
+                Long.toHexString(board.contentHash()), board.pegCount(), board.slots().slotCount());
+            return board;
+        });
+    }
+
+    public int size() {
+        return boards.size();
+    }
+
+    @Override
+    public void onDisable() {
+        boards.clear();
+    }
+
+}
@@ -1,4 +1,179 @@
 package com.glance.plinko.platform.paper.game;
 
-public class PlinkoBoard {
+import com.glance.plinko.platform.paper.config.SolverConfig;
+import com.glance.plinko.platform.paper.physics.broadphase.SpatialHashGrid;
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
+import com.glance.plinko.platform.paper.physics.shape.Sphere;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix3f;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link BoardLayout} compiled once into everything a drop needs
+ * <p>
+ * Holds the obstacle grid (with its precomputed {@code StaticObstacle} array and batch lanes),
+ * the slot boundaries and a content hash over both. Immutable, so one instance is meant to be
+ * shared by simulations, outcome caches and renderers instead of each rebuilding the geometry
+ * <p>
+ * Pegs come first in the obstacle list, row by row, followed by the dividers left to right
+ * <p>
+ * The layout's substep count moves every frame, so it is part of the content hash as well
+ */
+public final class PlinkoBoard {
+
+    // Bump when compiled geometry changes for the same layout
+    private static final int COMPILER_VERSION = 2;
+
+    private final BoardLayout layout;
+    private final SpatialHashGrid obstacles;
+    private final SlotLayout slots;
+    private final int pegCount;
+    private final long contentHash;
+
+    private PlinkoBoard(
+        @NotNull BoardLayout layout,
+        @NotNull List<PhysicsShape> shapes,
+        int pegCount,
+        @NotNull SlotLayout slots
+    ) {
+        this.layout = layout;
+        this.obstacles = new SpatialHashGrid(shapes);
+        this.slots = slots;
+        this.pegCount = pegCount;
+        this.contentHash = contentHash(obstacles.fingerprint(), slots, layout.substeps(), layout.solver());
+    }
+
+    public static @NotNull PlinkoBoard compile(@NotNull BoardLayout layout) {
+        Vector3f axis = layout.axis();
+        Vector3f origin = layout.origin();
+
+        // Board frame: x along the axis, y up, z across the board's depth
+        Matrix3f boardRotation = yaw(axis.x, -axis.z);
+        float pegYaw = (float) Math.toRadians(layout.pegYaw());
+        Matrix3f pegRotation = new Matrix3f(boardRotation).mul(yaw((float) StrictMath.cos(pegYaw), (float) StrictMath.sin(pegYaw)));
+
+        List<PhysicsShape> shapes = new ArrayList<>();
+        float half = layout.pegSize() / 2F;
+        for (int row = 0; row < layout.rows(); row++) {
+            int count = layout.firstRowPegs() + row;
+            float y = origin.y - row * layout.rowHeight();
+            for (int k = 0; k < count; k++) {
+                Vector3f center = along(origin, axis, (k - (count - 1) / 2F) * layout.spacing(), y);
+                shapes.add(switch (layout.pegShape()) {
+                    case OBB -> new OrientedBox(center, new Vector3f(half), new Matrix3f(pegRotation));
+                    case SPHERE -> new Sphere(center, half);
+                });
+            }
+        }
+        int pegCount = shapes.size();
+
+        int last = layout.lastRowPegs();
+        float firstX = -(last - 1) / 2F * layout.spacing();
+        float floorY = origin.y - layout.rows() * layout.rowHeight();
+
+        if (layout.dividerHeight() > 0F) {
+            float centerY = floorY - layout.dividerHeight() / 2F;
+            for (int k = 0; k < last; k++) {
+                boolean wall = k == 0 || k == last - 1;
+                float thickness = wall ? layout.wallThickness() : layout.dividerThickness();
+                shapes.add(new OrientedBox(
+                    along(origin, axis, firstX + k * layout.spacing(), centerY),
+                    new Vector3f(thickness / 2F, layout.dividerHeight() / 2F, half),
+                    new Matrix3f(boardRotation)
+                ));
+            }
+        }
+
+        SlotLayout slots = new SlotLayout(
+            along(origin, axis, firstX, floorY),
+            axis,
+            layout.spacing(),
+            layout.slotCount(),
+            floorY
+        );
+        return new PlinkoBoard(layout, shapes, pegCount, slots);
+    }
+
+    public @NotNull BoardLayout layout() {
+        return layout;
+    }
+
+    /** @return the broadphase grid over every peg and divider */
+    public @NotNull SpatialHashGrid obstacles() {
+        return obstacles;
+    }
+
+    public @NotNull SlotLayout slots() {
+        return slots;
+    }
+
+    /** @return the pegs, the first {@link #pegCount()} obstacles */
+    public @NotNull List<PhysicsShape> pegs() {
+        return obstacles.shapes().subList(0, pegCount);
+    }
+
+    public int pegCount() {
+        return pegCount;
+    }
+
+    /** @return physics steps per displayed tick on this board */
+    public int substeps() {
+        return layout.substeps();
+    }
+
+    /** @return the contact solver settings drops on this board run with */
+    public @NotNull SolverConfig solver() {
+        return layout.solver();
+    }
+
+    /**
+     * @return a hash of the compiled geometry, slots, substep count and solver settings, stable across restarts and nodes,
+     * usable as a cache or storage key for outcomes on this board
+     */
+    public long contentHash() {
+        return contentHash;
+    }
+
+    /** Rotation about +y taking +x to (cos, 0, -sin) */
+    private static Matrix3f yaw(float cos, float sin) {
+        return new Matrix3f(
+            cos, 0F, -sin,
+            0F, 1F, 0F,
+            sin, 0F, cos
+        );
+    }
+
+    private static Vector3f along(Vector3f origin, Vector3f axis, float offset, float y) {
+        return new Vector3f(origin.x + axis.x * offset, y, origin.z + axis.z * offset);
+    }
+
+    private static long contentHash(long obstacles, SlotLayout slots, int substeps, SolverConfig solver) {
+        long h = 0xCBF29CE484222325L;
+        h = mix(h, COMPILER_VERSION);
+        h = mix(h, (int) obstacles);
+        h = mix(h, (int) (obstacles >>> 32));
+        h = mix(h, Float.floatToIntBits(slots.origin().x));
+        h = mix(h, Float.floatToIntBits(slots.origin().z));
+        h = mix(h, Float.floatToIntBits(slots.axis().x));
+        h = mix(h, Float.floatToIntBits(slots.axis().z));
+        h = mix(h, Float.floatToIntBits(slots.slotWidth()));
+        h = mix(h, slots.slotCount());
+        h = mix(h, Float.floatToIntBits(slots.floorY()));
+        h = mix(h, substeps);
+        h = mix(h, solver.velocityIterations());
+        h = mix(h, solver.positionIterations());
+        h = mix(h, Float.floatToIntBits(solver.baumgarte()));
+        return mix(h, Float.floatToIntBits(solver.slop()));
+    }
+
+    private static long mix(long h, int v) {
+        h ^= v;
+        h *= 0x100000001B3L;
+        return h ^ (h >>> 29);
+    }
+
 }
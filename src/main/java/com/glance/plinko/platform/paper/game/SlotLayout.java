@@ -0,0 +1,45 @@
+package com.glance.plinko.platform.paper.game;
+
+import org.jetbrains.annotations.NotNull;
+import org.joml.Vector3f;
+
+/**
+ * Payout slots along the bottom of a board
+ * <p>
+ * Slots are {@code slotWidth} wide, laid out from {@code origin} along the horizontal
+ * {@code axis}. A ball lands once its centre drops below {@code floorY}, positions past
+ * either end count towards the outermost slot
+ *
+ * @param origin Left edge of slot 0, only its horizontal components are used
+ * @param axis Horizontal direction slots are laid out along, normalized on construction
+ * @param slotWidth Width of every slot
+ * @param slotCount Number of slots
+ * @param floorY World height a ball must drop below to land
+ */
+public record SlotLayout(
+    Vector3f origin,
+    Vector3f axis,
+    float slotWidth,
+    int slotCount,
+    float floorY
+) {
+
+    public SlotLayout {
+        if (slotCount <= 0) throw new IllegalArgumentException("slotCount must be positive");
+        if (slotWidth <= 0F) throw new IllegalArgumentException("slotWidth must be positive");
+        axis = new Vector3f(axis.x, 0F, axis.z).normalize();
+        origin = new Vector3f(origin);
+    }
+
+    public boolean hasLanded(@NotNull Vector3f position) {
+        return position.y < floorY;
+    }
+
+    /** @return the slot under the given position, clamped to the outermost slots */
+    public int slotAt(@NotNull Vector3f position) {
+        float along = (position.x - origin.x) * axis.x + (position.z - origin.z) * axis.z;
+        int slot = (int) Math.floor(along / slotWidth);
+        return Math.max(0, Math.min(slotCount - 1, slot));
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.glance.plinko.platform.paper.game.outcome;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.random.RandomGenerator;
+
+/**
+ * Vose alias table for O(1) sampling of a fixed discrete distribution
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param weights non-negative relative weights, at least one must be positive
+     */
+    public AliasTable(double @NotNull [] weights) {
+        int n = weights.length;
+        if (n == 0) throw new IllegalArgumentException("No weights given");
+
+        double total = 0D;
+        for (double w : weights) {
+            if (w < 0D || !Double.isFinite(w)) throw new IllegalArgumentException("Invalid weight " + w);
+            total += w;
+        }
+        if (total <= 0D) throw new IllegalArgumentException("Weights must not all be zero");
+
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            (scaled[i] < 1D ? small : large).push(i);
+        }
+
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int s = small.pop();
+            int l = large.pop();
+            probability[s] = scaled[s];
+            alias[s] = l;
+
+            scaled[l] = (scaled[l] + scaled[s]) - 1D;
+            (scaled[l] < 1D ? small : large).push(l);
+        }
+
+        // Leftovers are 1 up to rounding error
+        while (!large.isEmpty()) probability[large.pop()] = 1D;
+        while (!small.isEmpty()) probability[small.pop()] = 1D;
+    }
+
+    public int size() {
+        return probability.length;
+    }
+
+    public int sample(@NotNull RandomGenerator random) {
+        int i = random.nextInt(probability.length);
+        return random.nextDouble() < probability[i] ? i : alias[i];
+    }
+
+}
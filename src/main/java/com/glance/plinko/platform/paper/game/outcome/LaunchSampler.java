@@ -0,0 +1,14 @@
+package com.glance.plinko.platform.paper.game.outcome;
+
+import com.glance.plinko.platform.paper.game.simulation.PlinkoRunContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Produces launch contexts for background pool refills, typically jittering the drop point
+ */
+@FunctionalInterface
+public interface LaunchSampler {
+    @NotNull PlinkoRunContext sample(@NotNull RandomGenerator random);
+}
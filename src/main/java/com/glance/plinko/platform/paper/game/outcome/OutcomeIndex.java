@@ -0,0 +1,268 @@
+package com.glance.plinko.platform.paper.game.outcome;
+
+import com.glance.plinko.platform.paper.animation.PlinkoAnimation;
+import com.glance.plinko.platform.paper.game.PlinkoBoard;
+import com.glance.plinko.platform.paper.game.simulation.PlinkoBatchSimulator;
+import com.glance.plinko.platform.paper.game.simulation.PlinkoRunContext;
+import com.glance.plinko.platform.paper.game.simulation.store.OutcomeTable;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.random.RandomGenerator;
+
+/**
+ * Per-board pools of precomputed animations bucketed by final slot
+ * <p>
+ * A drop picks its payout slot from the configured weights in O(1), then takes a random
+ * animation that lands there, so nothing is simulated on the request path. When any
+ * weighted bucket falls below the low watermark a background refill simulates more drops
+ * through the {@link PlinkoBatchSimulator} until the buckets recover
+ * <p>
+ * Refills are plain random drops, so a slot the board rarely reaches may never recover. Once
+ * enough drops have been seen, a slot whose hit rate can't reach the watermark within one
+ * refill burst counts as starved and no longer triggers refills. A burst that ends with
+ * buckets still low backs off before the next one, from 5 seconds doubling up to 5 minutes
+ */
+@Slf4j
+public final class OutcomeIndex {
+
+    private static final int REFILL_BATCH = 256;
+    private static final int MAX_REFILL_ROUNDS = 32;
+    private static final long REFILL_BURST = (long) REFILL_BATCH * MAX_REFILL_ROUNDS;
+
+    private static final long MIN_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final PlinkoBatchSimulator batchSimulator;
+    private final PlinkoBoard board;
+    private final LaunchSampler sampler;
+
+    private final AliasTable slotPicker;
+    private final double[] weights;
+    private final Bucket[] buckets;
+    private final int lowWatermark;
+
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    // Refill drops simulated so far, and how many landed in each slot
+    private final AtomicLong drops = new AtomicLong();
+    private final AtomicLongArray hits;
+
+    // Only written by the running refill, 0 when not backing off
+    private volatile long retryAt;
+    private long backoff;
+    private final boolean[] reportedStarved;
+
+    /**
+     * @param board board the pooled drops run on, with its substeps
+     * @param weights payout probability weight per slot, length must match the slot count
+     * @param capacity max animations held per slot
+     * @param lowWatermark refill once a weighted slot holds fewer than this many animations
+     */
+    public OutcomeIndex(
+        @NotNull PlinkoBatchSimulator batchSimulator,
+        @NotNull PlinkoBoard board,
+        @NotNull LaunchSampler sampler,
+        double @NotNull [] weights,
+        int capacity,
+        int lowWatermark
+    ) {
+        int slotCount = board.slots().slotCount();
+        if (weights.length != slotCount) {
+            throw new IllegalArgumentException("Expected " + slotCount + " slot weights, got " + weights.length);
+        }
+        if (lowWatermark > capacity) throw new IllegalArgumentException("lowWatermark exceeds capacity");
+
+        this.batchSimulator = batchSimulator;
+        this.board = board;
+        this.sampler = sampler;
+        this.weights = weights.clone();
+        this.slotPicker = new AliasTable(this.weights);
+        this.lowWatermark = lowWatermark;
+
+        this.buckets = new Bucket[slotCount];
+        for (int i = 0; i < buckets.length; i++) buckets[i] = new Bucket(capacity);
+        this.hits = new AtomicLongArray(slotCount);
+        this.reportedStarved = new boolean[slotCount];
+    }
+
+    /** @return a payout slot drawn from the configured weights */
+    public int pickSlot(@NotNull RandomGenerator random) {
+        return slotPicker.sample(random);
+    }
+
+    /**
+     * Removes and returns a random animation landing in {@code slot}
+     *
+     * @return null if the bucket is currently empty. A refill may be underway, backing off, or
+     * skipped entirely for a {@linkplain #isStarved(int) starved} slot, so don't wait on it
+     */
+    public @Nullable PlinkoAnimation take(int slot, @NotNull RandomGenerator random) {
+        if (slot < 0 || slot >= buckets.length) return null;
+        PlinkoAnimation animation = buckets[slot].take(random);
+        if (buckets[slot].size() < lowWatermark) requestRefill();
+        return animation;
+    }
+
+    /**
+     * Picks a slot by weight and takes an animation landing there
+     * <p>
+     * On null the caller should simulate the drop live (e.g. {@code PlinkoSimulator.simulate(object, board)})
+     * and pay out wherever it lands. Drawing again instead would skew the payout weights away
+     * from slots whose buckets run dry
+     *
+     * @return null if the picked slot's bucket is empty
+     */
+    public @Nullable PlinkoAnimation draw(@NotNull RandomGenerator random) {
+        return take(pickSlot(random), random);
+    }
+
+    /**
+     * Adds an animation to its slot's bucket
+     *
+     * @return false if it landed nowhere or the bucket is full
+     */
+    public boolean offer(@NotNull PlinkoAnimation animation) {
+        int slot = animation.finalSlot();
+        if (slot < 0 || slot >= buckets.length) return false;
+        return buckets[slot].offer(animation);
+    }
+
+    /**
+     * Seeds the buckets from a persisted outcome table, animations stay mapped
+     */
+    public void preload(@NotNull OutcomeTable table) {
+        for (int slot = 0; slot < buckets.length; slot++) {
+            int count = table.count(slot);
+            for (int i = 0; i < count; i++) {
+                PlinkoAnimation animation = table.get(slot, i);
+                if (animation == null || !buckets[slot].offer(animation)) break;
+            }
+        }
+    }
+
+    public int available(int slot) {
+        return buckets[slot].size();
+    }
+
+    public boolean needsRefill() {
+        for (int slot = 0; slot < buckets.length; slot++) {
+            if (weights[slot] > 0D && !isStarved(slot) && buckets[slot].size() < lowWatermark) return true;
+        }
+        return false;
+    }
+
+    /**
+     * A slot is starved once at least one refill burst of drops has been simulated and its
+     * observed hit rate wouldn't bring it back to the low watermark within another burst
+     * <p>
+     * Starved slots are left to whatever they already hold, {@link #draw} returns null for them
+     * once that runs out
+     */
+    public boolean isStarved(int slot) {
+        long total = drops.get();
+        if (total < REFILL_BURST) return false;
+        return hits.get(slot) * (double) REFILL_BURST / total < lowWatermark;
+    }
+
+    /**
+     * Starts a background refill if one is needed, none is running and the last one isn't
+     * backing off
+     */
+    public void requestRefill() {
+        long retry = retryAt;
+        if (retry != 0L && System.nanoTime() - retry < 0L) return;
+        if (!needsRefill() || !refilling.compareAndSet(false, true)) return;
+        refillRound(0);
+    }
+
+    private void refillRound(int round) {
+        RandomGenerator random = ThreadLocalRandom.current();
+        List<PlinkoRunContext> batch = new ArrayList<>(REFILL_BATCH);
+        for (int i = 0; i < REFILL_BATCH; i++) batch.add(sampler.sample(random));
+
+        try {
+            batchSimulator.submitAll(batch, board).whenComplete((animations, error) -> {
+                if (error != null) {
+                    log.error("Outcome refill failed", error);
+                    finishRefill(false);
+                    return;
+                }
+
+                for (PlinkoAnimation animation : animations) {
+                    int slot = animation.finalSlot();
+                    if (slot >= 0 && slot < buckets.length) hits.incrementAndGet(slot);
+                    offer(animation);
+                }
+                drops.addAndGet(animations.size());
+
+                if (needsRefill() && round + 1 < MAX_REFILL_ROUNDS) {
+                    refillRound(round + 1);
+                } else {
+                    if (needsRefill()) log.warn("Outcome buckets still low after {} refill rounds", MAX_REFILL_ROUNDS);
+                    finishRefill(!needsRefill());
+                }
+            });
+        } catch (IllegalStateException e) {
+            log.warn("Cannot refill outcomes: {}", e.getMessage());
+            finishRefill(false);
+        }
+    }
+
+    private void finishRefill(boolean recovered) {
+        for (int slot = 0; slot < buckets.length; slot++) {
+            if (weights[slot] > 0D && !reportedStarved[slot] && isStarved(slot)) {
+                reportedStarved[slot] = true;
+                log.warn("Slot {} is hit {} times in {} drops, too rarely to refill, draws for it return null once its bucket empties",
+                    slot, hits.get(slot), drops.get());
+            }
+        }
+
+        if (recovered) {
+            backoff = 0L;
+            retryAt = 0L;
+        } else {
+            backoff = backoff == 0L ? MIN_BACKOFF_NANOS : Math.min(backoff * 2, MAX_BACKOFF_NANOS);
+            retryAt = System.nanoTime() + backoff;
+        }
+        refilling.set(false);
+    }
+
+    /** Fixed capacity pool with O(1) random removal */
+    private static final class Bucket {
+        private final PlinkoAnimation[] items;
+        private int size;
+
+        Bucket(int capacity) {
+            this.items = new PlinkoAnimation[capacity];
+        }
+
+        synchronized boolean offer(@NotNull PlinkoAnimation animation) {
+            if (size == items.length) return false;
+            items[size++] = animation;
+            return true;
+        }
+
+        synchronized @Nullable PlinkoAnimation take(@NotNull RandomGenerator random) {
+            if (size == 0) return null;
+            int i = random.nextInt(size);
+            PlinkoAnimation picked = items[i];
+            items[i] = items[--size];
+            items[size] = null;
+            return picked;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+
+}
@@ -0,0 +1,198 @@
+package com.glance.plinko.platform.paper.game.simulation;
+
+import com.glance.plinko.platform.paper.physics.collision.CollisionResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+
+/**
+ * Persistent body-vs-obstacle contacts carried between ticks
+ * <p>
+ * Each body owns a few fixed slots, a slot is identified by (body, obstacle, indexA, indexB)
+ * where the indices are the features SAT picked. While the body's pose stays within a small
+ * tolerance of the pose the manifold was built at, the manifold is reused without running
+ * narrowphase. Accumulated impulses, one set per contact point, survive as long as the same
+ * features stay in contact, so the solver can warm-start from them
+ * <p>
+ * Contacts not touched on the previous tick are stale and free for reuse
+ */
+public final class ContactCache {
+
+    public static final int SLOTS_PER_BODY = 4;
+    public static final int POINTS_PER_SLOT = 4;
+
+    static final float POSITION_TOLERANCE = 0.005F;
+    static final float ROTATION_TOLERANCE = 1e-4F; // 1 - |q0 . q1|
+
+    private final int capacity;
+    private int tick = 1;
+
+    private final int[] obstacle;
+    private final int[] indexA;
+    private final int[] indexB;
+    private final int[] lastTick;
+    private final CollisionResult[] results;
+
+    // Body pose the manifold was built at, 7 floats: position then rotation
+    private final float[] pose;
+
+    // Accumulated impulses per contact point: scalar along the normal, vector in the contact plane
+    private final float[] normalImpulse;
+    private final float[] tangentImpulse;
+
+    private int reused;
+    private int rebuilt;
+
+    public ContactCache(int bodies) {
+        this.capacity = bodies * SLOTS_PER_BODY;
+        this.obstacle = new int[capacity];
+        this.indexA = new int[capacity];
+        this.indexB = new int[capacity];
+        this.lastTick = new int[capacity];
+        this.results = new CollisionResult[capacity];
+        this.pose = new float[capacity * 7];
+        this.normalImpulse = new float[capacity * POINTS_PER_SLOT];
+        this.tangentImpulse = new float[capacity * POINTS_PER_SLOT * 3];
+    }
+
+    /** Marks the start of a tick, contacts not touched since the last call become stale */
+    public void beginTick() {
+        tick++;
+    }
+
+    /**
+     * @return the live slot for this body and obstacle, or -1
+     */
+    public int find(int body, int obstacleId) {
+        int base = body * SLOTS_PER_BODY;
+        for (int s = base; s < base + SLOTS_PER_BODY; s++) {
+            if (obstacle[s] == obstacleId && isLive(s)) return s;
+        }
+        return -1;
+    }
+
+    /**
+     * Re-validates a cached manifold against the body's current pose without narrowphase
+     *
+     * @return the depth at the current pose, or NaN if the pose moved too far and the
+     * manifold must be rebuilt. A depth of zero or less means the contact has opened
+     */
+    public float reuseDepth(
+        int slot,
+        @NotNull RigidBodyStore bodies,
+        int body
+    ) {
+        int p = slot * 7;
+        float dx = bodies.px[body] - pose[p];
+        float dy = bodies.py[body] - pose[p + 1];
+        float dz = bodies.pz[body] - pose[p + 2];
+        if (dx * dx + dy * dy + dz * dz > POSITION_TOLERANCE * POSITION_TOLERANCE) return Float.NaN;
+
+        float dot = bodies.qx[body] * pose[p + 3] + bodies.qy[body] * pose[p + 4]
+            + bodies.qz[body] * pose[p + 5] + bodies.qw[body] * pose[p + 6];
+        if (1F - Math.abs(dot) > ROTATION_TOLERANCE) return Float.NaN;
+
+        CollisionResult result = results[slot];
+        Vector3f n = result.normal();
+
+        // Moving along the normal (towards the obstacle) deepens the contact
+        reused++;
+        lastTick[slot] = tick;
+        return result.penetrationDepth() + dx * n.x + dy * n.y + dz * n.z;
+    }
+
+    /**
+     * Stores a freshly built manifold, keeping the accumulated impulses if the same
+     * features were already in contact
+     *
+     * @return the slot
+     */
+    public int store(
+        int body,
+        int obstacleId,
+        @NotNull CollisionResult result,
+        @NotNull RigidBodyStore bodies
+    ) {
+        rebuilt++;
+        int slot = find(body, obstacleId);
+        boolean sameFeatures = slot >= 0
+            && indexA[slot] == result.indexA()
+            && indexB[slot] == result.indexB();
+
+        if (slot < 0) slot = freeSlot(body);
+        if (!sameFeatures) clearImpulses(slot);
+
+        obstacle[slot] = obstacleId;
+        indexA[slot] = result.indexA();
+        indexB[slot] = result.indexB();
+        lastTick[slot] = tick;
+        results[slot] = result;
+
+        int p = slot * 7;
+        pose[p] = bodies.px[body];
+        pose[p + 1] = bodies.py[body];
+        pose[p + 2] = bodies.pz[body];
+        pose[p + 3] = bodies.qx[body];
+        pose[p + 4] = bodies.qy[body];
+        pose[p + 5] = bodies.qz[body];
+        pose[p + 6] = bodies.qw[body];
+        return slot;
+    }
+
+    public @Nullable CollisionResult result(int slot) {
+        return results[slot];
+    }
+
+    public float normalImpulse(int slot, int point) {
+        return normalImpulse[slot * POINTS_PER_SLOT + point];
+    }
+
+    public void setNormalImpulse(int slot, int point, float impulse) {
+        normalImpulse[slot * POINTS_PER_SLOT + point] = impulse;
+    }
+
+    /** @return one component (0 = x, 1 = y, 2 = z) of a point's accumulated tangent impulse */
+    public float tangentImpulse(int slot, int point, int axis) {
+        return tangentImpulse[(slot * POINTS_PER_SLOT + point) * 3 + axis];
+    }
+
+    public void setTangentImpulse(int slot, int point, float x, float y, float z) {
+        int t = (slot * POINTS_PER_SLOT + point) * 3;
+        tangentImpulse[t] = x;
+        tangentImpulse[t + 1] = y;
+        tangentImpulse[t + 2] = z;
+    }
+
+    public void clearImpulses(int slot) {
+        int base = slot * POINTS_PER_SLOT;
+        Arrays.fill(normalImpulse, base, base + POINTS_PER_SLOT, 0F);
+        Arrays.fill(tangentImpulse, base * 3, (base + POINTS_PER_SLOT) * 3, 0F);
+    }
+
+    /** @return manifolds reused without narrowphase so far */
+    public int reusedCount() {
+        return reused;
+    }
+
+    /** @return manifolds built by narrowphase so far */
+    public int rebuiltCount() {
+        return rebuilt;
+    }
+
+    private boolean isLive(int slot) {
+        return lastTick[slot] > 0 && lastTick[slot] >= tick - 1;
+    }
+
+    private int freeSlot(int body) {
+        int base = body * SLOTS_PER_BODY;
+        int oldest = base;
+        for (int s = base; s < base + SLOTS_PER_BODY; s++) {
+            if (!isLive(s)) return s;
+            if (lastTick[s] < lastTick[oldest]) oldest = s;
+        }
+        return oldest;
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.glance.plinko.platform.paper.game.simulation;
+
+import com.glance.plinko.platform.paper.animation.PlinkoAnimation;
+import com.glance.plinko.platform.paper.game.PlinkoBoard;
+import com.glance.plinko.platform.paper.game.SlotLayout;
+import com.glance.plinko.platform.paper.game.simulation.factory.PlinkoObjectFactory;
+import com.glance.plinko.platform.paper.game.simulation.store.LaunchParams;
+import com.glance.plinko.platform.paper.game.simulation.store.OutcomeTableStore;
+import com.glance.plinko.platform.paper.physics.broadphase.SpatialHashGrid;
+import com.glance.plinko.utils.lifecycle.Manager;
+import com.google.auto.service.AutoService;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+
+/**
+ * Runs many simulations off the main thread across a dedicated {@link ForkJoinPool}
+ * <p>
+ * Each run gets its own {@link PlinkoObject}, the obstacle grid is immutable and shared,
+ * so workers never contend on simulation state
+ * <p>
+ * Runs on a compiled {@link PlinkoBoard} are also recorded to the {@link OutcomeTableStore}
+ * under the board's content hash, so they survive restarts
+ */
+@Slf4j
+@Singleton
+@AutoService(Manager.class)
+public class PlinkoBatchSimulator implements Manager {
+
+    private final PlinkoSimulator simulator;
+    private final PlinkoObjectFactory objectFactory;
+    private final OutcomeTableStore tableStore;
+
+    private ForkJoinPool pool;
+
+    @Inject
+    public PlinkoBatchSimulator(
+        @NotNull final PlinkoSimulator simulator,
+        @NotNull final PlinkoObjectFactory objectFactory,
+        @NotNull final OutcomeTableStore tableStore
+    ) {
+        this.simulator = simulator;
+        this.objectFactory = objectFactory;
+        this.tableStore = tableStore;
+    }
+
+    @Override
+    public void onEnable() {
+        if (pool != null) return;
+
+        // Leave a core for the server thread
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.pool = new ForkJoinPool(parallelism, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("plinko-batch-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, (t, e) -> log.error("Uncaught exception in {}", t.getName(), e), false);
+    }
+
+    @Override
+    public void onDisable() {
+        if (this.pool != null) {
+            this.pool.shutdownNow();
+            this.pool = null;
+        }
+    }
+
+    /**
+     * Simulates a single run in the background
+     */
+    public CompletableFuture<PlinkoAnimation> submit(
+        @NotNull PlinkoRunContext ctx,
+        @NotNull SpatialHashGrid obstacles
+    ) {
+        return submit(ctx, obstacles, null);
+    }
+
+    public CompletableFuture<PlinkoAnimation> submit(
+        @NotNull PlinkoRunContext ctx,
+        @NotNull SpatialHashGrid obstacles,
+        @Nullable SlotLayout slots
+    ) {
+        return CompletableFuture.supplyAsync(() -> simulateOne(ctx, obstacles, slots), requirePool());
+    }
+
+    public CompletableFuture<PlinkoAnimation> submit(
+        @NotNull PlinkoRunContext ctx,
+        @NotNull PlinkoBoard board
+    ) {
+        return CompletableFuture.supplyAsync(() -> simulateOne(ctx, board), requirePool());
+    }
+
+    /**
+     * Simulates every run in parallel
+     *
+     * @return a future completing with the animations in the same order as {@code contexts},
+     * or exceptionally if any single run failed
+     */
+    public CompletableFuture<List<PlinkoAnimation>> submitAll(
+        @NotNull List<PlinkoRunContext> contexts,
+        @NotNull SpatialHashGrid obstacles
+    ) {
+        return submitAll(contexts, obstacles, null);
+    }
+
+    public CompletableFuture<List<PlinkoAnimation>> submitAll(
+        @NotNull List<PlinkoRunContext> contexts,
+        @NotNull SpatialHashGrid obstacles,
+        @Nullable SlotLayout slots
+    ) {
+        return submitAll(contexts, ctx -> simulateOne(ctx, obstacles, slots));
+    }
+
+    /**
+     * Simulates every run in parallel on the board, with its substep count
+     */
+    public CompletableFuture<List<PlinkoAnimation>> submitAll(
+        @NotNull List<PlinkoRunContext> contexts,
+        @NotNull PlinkoBoard board
+    ) {
+        return submitAll(contexts, ctx -> simulateOne(ctx, board));
+    }
+
+    private CompletableFuture<List<PlinkoAnimation>> submitAll(
+        @NotNull List<PlinkoRunContext> contexts,
+        @NotNull Function<PlinkoRunContext, PlinkoAnimation> run
+    ) {
+        ForkJoinPool executor = requirePool();
+        List<CompletableFuture<PlinkoAnimation>> futures = new ArrayList<>(contexts.size());
+        for (PlinkoRunContext ctx : contexts) {
+            futures.add(CompletableFuture.supplyAsync(() -> run.apply(ctx), executor));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .thenApply(v -> {
+                List<PlinkoAnimation> results = new ArrayList<>(futures.size());
+                for (CompletableFuture<PlinkoAnimation> future : futures) results.add(future.join());
+                return results;
+            });
+    }
+
+    private PlinkoAnimation simulateOne(
+        @NotNull PlinkoRunContext ctx,
+        @NotNull SpatialHashGrid obstacles,
+        @Nullable SlotLayout slots
+    ) {
+        PlinkoObject object = objectFactory.create(ctx);
+        return simulator.simulate(object, obstacles, slots);
+    }
+
+    private PlinkoAnimation simulateOne(
+        @NotNull PlinkoRunContext ctx,
+        @NotNull PlinkoBoard board
+    ) {
+        PlinkoObject object = objectFactory.create(ctx);
+        LaunchParams launch = LaunchParams.of(object);
+        PlinkoAnimation animation = simulator.simulate(object, board);
+        tableStore.record(board.contentHash(), launch, animation);
+        return animation;
+    }
+
+    private ForkJoinPool requirePool() {
+        ForkJoinPool current = this.pool;
+        if (current == null) throw new IllegalStateException("Batch simulator is not enabled");
+        return current;
+    }
+
+}
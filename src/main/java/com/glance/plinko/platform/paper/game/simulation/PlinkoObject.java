@@ -1,42 +1,25 @@
 package com.glance.plinko.platform.paper.game.simulation;
 
 import com.glance.plinko.platform.paper.game.simulation.factory.PhysicsShapeFactory;
-import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
 import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
 import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
-import lombok.Getter;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
-import org.joml.Matrix3f;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
 
+/**
+ * A view over one body in a {@link RigidBodyStore}
+ * <p>
+ * Getters return copies, state only changes through the setters. Standalone objects get
+ * their own single-slot store
+ */
 @Slf4j
-@Getter
-@Setter
 public class PlinkoObject {
 
-    private static float IMMOVABLE_MASS_THRESHOLD = 1000.0F;
-
-    private Vector3f position;
-    private Vector3f velocity;
-    private Quaternionf rotation;
-    private Vector3f angularVelocity;
-    private Vector3f scale;
-
-    private float bounciness;
-    private final float mass;
-    private final float angularSpinFactor;
-
-    private final boolean immovable;
-
-    private final PhysicsShape baseShape;
-
-    // Cached dynamics
-    private float invMass;
-    private float invInertia;
+    private final RigidBodyStore store;
+    private final int id;
 
     @Inject
     public PlinkoObject(
@@ -48,6 +31,9 @@ public class PlinkoObject {
             context.config().mass(),
             context.config().angularSpinFactor()
         );
+        // Stickiness adds grip on top of the base friction every body has
+        setFriction(RigidBodyStore.BASE_FRICTION + Math.max(0F, context.config().stickiness()));
+        setBounciness(context.config().bounciness());
     }
 
     public PlinkoObject(
@@ -55,59 +41,115 @@ public class PlinkoObject {
         float mass,
         float angularSpinFactor
     ) {
-        this.baseShape = baseShape;
-        this.mass = mass;
-        this.immovable = mass >= IMMOVABLE_MASS_THRESHOLD;
+        log.debug("Spawning plinko object with baseShape center at {}", baseShape.center());
+        this.store = new RigidBodyStore(1);
+        this.id = store.add(baseShape, mass, angularSpinFactor);
+    }
 
-        this.angularSpinFactor = angularSpinFactor;
+    PlinkoObject(@NotNull RigidBodyStore store, int id) {
+        this.store = store;
+        this.id = id;
+    }
 
-        log.warn("Spawning plinko object with baseShape center at {}", baseShape.center());
-        this.position = new Vector3f(baseShape.center());
-        this.velocity = new Vector3f();
-        this.rotation = new Quaternionf();
-        this.bounciness = 1.1F;
-        this.angularVelocity = new Vector3f();
-        this.scale = new Vector3f(1.0F, 1.0F, 1.0F);
+    public @NotNull RigidBodyStore store() {
+        return store;
+    }
 
-        recomputeMassProperties();
+    public int id() {
+        return id;
     }
 
+    /**
+     * @return the world shape at the current state, reused and updated in place on the next call
+     */
     public PhysicsShape currentShape() {
-        if (baseShape instanceof OrientedBox box) {
-            Matrix3f rotationMatrix = new Matrix3f().rotate(rotation);
-            return new OrientedBox(position, box.halfSize(), rotationMatrix, scale);
-        }
-
-        throw new UnsupportedOperationException("Unsupported shape: " + baseShape.getClass().getSimpleName());
+        return store.shape(id);
     }
 
     public Vector3f getVelocityAt(@NotNull Vector3f worldPoint) {
-        Vector3f r = new Vector3f(worldPoint).sub(position);
-        Vector3f spinVelocity = new Vector3f(angularVelocity).cross(r);
-        return new Vector3f(velocity).add(spinVelocity);
-    }
-
-    private void recomputeMassProperties() {
-        if (immovable) {
-            this.invInertia = 0f;
-            this.invMass = 0f;
-            return;
-        }
-
-        this.invMass = (mass <= 0f ? 0f : 1f / mass);
-
-        float R = 0.5f;
-        if (baseShape instanceof OrientedBox box) {
-            Vector3f half = new Vector3f(box.halfSize()).mul(scale);
-            R = (float) Math.sqrt(half.x * half.x + half.y * half.y + half.z * half.z);
-        }
-
-        if (R < 1e-4f) {
-            this.invInertia = 0f;
-        } else {
-            // sphere inertia approx
-            this.invInertia = (5f / 2f) * this.invMass / (R * R);
-        }
+        Vector3f r = new Vector3f(worldPoint).sub(getPosition());
+        Vector3f spinVelocity = getAngularVelocity().cross(r);
+        return getVelocity().add(spinVelocity);
+    }
+
+    public Vector3f getPosition() {
+        return store.position(id, new Vector3f());
+    }
+
+    public Vector3f getVelocity() {
+        return store.velocity(id, new Vector3f());
+    }
+
+    public Quaternionf getRotation() {
+        return store.rotation(id, new Quaternionf());
+    }
+
+    public Vector3f getAngularVelocity() {
+        return store.angularVelocity(id, new Vector3f());
+    }
+
+    public Vector3f getScale() {
+        return store.scale(id, new Vector3f());
+    }
+
+    public void setPosition(@NotNull Vector3f position) {
+        store.setPosition(id, position.x, position.y, position.z);
+    }
+
+    public void setVelocity(@NotNull Vector3f velocity) {
+        store.setVelocity(id, velocity.x, velocity.y, velocity.z);
+    }
+
+    public void setRotation(@NotNull Quaternionf rotation) {
+        store.setRotation(id, rotation.x, rotation.y, rotation.z, rotation.w);
+    }
+
+    public void setAngularVelocity(@NotNull Vector3f angularVelocity) {
+        store.setAngularVelocity(id, angularVelocity.x, angularVelocity.y, angularVelocity.z);
+    }
+
+    public void setScale(@NotNull Vector3f scale) {
+        store.setScale(id, scale.x, scale.y, scale.z);
+    }
+
+    public float getBounciness() {
+        return store.bounciness[id];
+    }
+
+    public void setBounciness(float bounciness) {
+        store.bounciness[id] = bounciness;
+    }
+
+    public float getFriction() {
+        return store.friction[id];
+    }
+
+    public void setFriction(float friction) {
+        store.friction[id] = friction;
+    }
+
+    public float getMass() {
+        return store.mass(id);
+    }
+
+    public float getAngularSpinFactor() {
+        return store.angularSpinFactor(id);
+    }
+
+    public boolean isImmovable() {
+        return store.isImmovable(id);
+    }
+
+    public PhysicsShape getBaseShape() {
+        return store.baseShape(id);
+    }
+
+    public float getInvMass() {
+        return store.invMass[id];
+    }
+
+    public float getInvInertia() {
+        return store.invInertia[id];
     }
 
 }
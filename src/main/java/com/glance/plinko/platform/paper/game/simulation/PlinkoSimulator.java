@@ -1,19 +1,23 @@
 package com.glance.plinko.platform.paper.game.simulation;
 
+import com.glance.plinko.platform.paper.animation.PackedKeyframeTrack;
 import com.glance.plinko.platform.paper.animation.PlinkoAnimation;
-import com.glance.plinko.platform.paper.animation.PlinkoKeyframe;
-import com.glance.plinko.platform.paper.physics.collision.CollisionResponder;
-import com.glance.plinko.platform.paper.physics.collision.CollisionResult;
+import com.glance.plinko.platform.paper.config.SolverConfig;
+import com.glance.plinko.platform.paper.game.PlinkoBoard;
+import com.glance.plinko.platform.paper.game.SlotLayout;
+import com.glance.plinko.platform.paper.physics.broadphase.SpatialHashGrid;
+import com.glance.plinko.platform.paper.physics.collision.ContactSolver;
 import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
 import com.glance.plinko.utils.lifecycle.Manager;
 import com.google.auto.service.AutoService;
 import com.google.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
-import org.bukkit.util.Transformation;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,70 +29,267 @@ public class PlinkoSimulator implements Manager {
     private static final Vector3f GRAVITY = new Vector3f(0F, -0.03F, 0F); // todo configurable
     private static final int MAX_TICKS = 200; // todo configurable
     private static final float TERMINAL_VELOCITY = 1.5F; // todo depends on object - so this should be a factor
+    // Grid overloads have no board to carry solver settings, boards bring their own
+    private static final SolverConfig DEFAULT_SOLVER = SolverConfig.defaults();
+
+    // How far below the lowest obstacle or slot floor a body counts as having left the board
+    private static final float EXIT_MARGIN = 1.0F;
 
-    // todo provide full board if necessary?
     public PlinkoAnimation simulate(
-            PlinkoRunContext ctx,
             PlinkoObject object,
             List<PhysicsShape> obstacles
     ) {
-        List<PlinkoKeyframe> frames = new ArrayList<>();
+        return simulate(object, new SpatialHashGrid(obstacles));
+    }
+
+    public PlinkoAnimation simulate(
+            PlinkoObject object,
+            SpatialHashGrid obstacles
+    ) {
+        return simulate(object, obstacles, null);
+    }
+
+    /**
+     * Simulates a drop on a compiled board, using its obstacle grid, slots, substep count and solver settings
+     */
+    public PlinkoAnimation simulate(
+            PlinkoObject object,
+            PlinkoBoard board
+    ) {
+        PackedKeyframeTrack.Builder frames = PackedKeyframeTrack.builder(MAX_TICKS);
+        int finalSlot = run(object, board.obstacles(), board.slots(), board.substeps(), board.solver(), frames, null);
+        return new PlinkoAnimation(UUID.randomUUID(), frames.build(), finalSlot);
+    }
+
+    /**
+     * Simulates against a prebuilt obstacle grid, only candidates overlapping
+     * the object's swept AABB each tick are run through narrowphase
+     * <p>
+     * Steps where the object moves further than half the thinnest obstacle are swept in
+     * smaller increments so it can't tunnel through. Runs one physics step per tick with the default
+     * solver settings, boards can ask for more steps and their own settings
+     * <p>
+     * If slots are given, the final slot is taken where the object first drops below the floor
+     * <p>
+     * The run ends early once the object comes to rest or falls out of the bottom of the board,
+     * a resting object that never landed gets the slot it is resting above
+     */
+    public PlinkoAnimation simulate(
+            PlinkoObject object,
+            SpatialHashGrid obstacles,
+            @Nullable SlotLayout slots
+    ) {
+        PackedKeyframeTrack.Builder frames = PackedKeyframeTrack.builder(MAX_TICKS);
+        int finalSlot = run(object, obstacles, slots, 1, DEFAULT_SOLVER, frames, null);
+        return new PlinkoAnimation(UUID.randomUUID(), frames.build(), finalSlot);
+    }
+
+    /**
+     * Runs the same simulation as {@link #simulate} without recording frames
+     * <p>
+     * The result equals {@link SimulationHash#of} over the animation {@code simulate} would
+     * have produced, so another node can verify a stored drop by re-running it from the
+     * same object state and comparing a single long
+     */
+    public long hash(
+            PlinkoObject object,
+            SpatialHashGrid obstacles,
+            @Nullable SlotLayout slots
+    ) {
+        SimulationHash hash = new SimulationHash();
+        int finalSlot = run(object, obstacles, slots, 1, DEFAULT_SOLVER, null, hash);
+        return hash.finish(finalSlot);
+    }
+
+    public long hash(
+            PlinkoObject object,
+            PlinkoBoard board
+    ) {
+        SimulationHash hash = new SimulationHash();
+        int finalSlot = run(object, board.obstacles(), board.slots(), board.substeps(), board.solver(), null, hash);
+        return hash.finish(finalSlot);
+    }
+
+    private int run(
+            PlinkoObject object,
+            SpatialHashGrid obstacles,
+            @Nullable SlotLayout slots,
+            int substeps,
+            SolverConfig solverConfig,
+            @Nullable PackedKeyframeTrack.Builder frames,
+            @Nullable SimulationHash hash
+    ) {
         boolean collisionOccurred;
+        float dt = 1F / substeps;
+
+        RigidBodyStore bodies = object.store();
+        int id = object.id();
+
+        StaticContactPass staticContacts = new StaticContactPass(obstacles, bodies.capacity());
+        ContactSolver solver = new ContactSolver(bodies.capacity(), solverConfig, staticContacts.contacts());
+        Vector3f position = new Vector3f();
+        Quaternionf rotation = new Quaternionf();
+        Vector3f scale = new Vector3f();
+
+        int finalSlot = -1;
+        float exitY = exitHeight(obstacles, slots);
+        bodies.wake(id);
 
-        log.warn("Initial position {}", object.getPosition());
+        log.debug("Initial position {}", bodies.position(id, position));
 
         for (int tick = 0; tick < MAX_TICKS; tick++){
             collisionOccurred = false;
 
-            // Apply gravity
-            Vector3f vel = object.getVelocity();
-            vel.add(GRAVITY);
+            // Fixed timestep, the tick is split into equal steps and only its end is recorded
+            for (int step = 0; step < substeps; step++) {
+                // Apply gravity and clamp to terminal velocity
+                bodies.applyGravity(id, id + 1, GRAVITY.x * dt, GRAVITY.y * dt, GRAVITY.z * dt, TERMINAL_VELOCITY);
 
-            // Clamp
-            if (vel.length() > TERMINAL_VELOCITY) {
-                vel.normalize().mul(TERMINAL_VELOCITY);
+                // Move the object
+                bodies.integratePositions(id, id + 1, dt);
+
+                // Turn by the angular velocity, the shape and the recorded frame both read this orientation
+                bodies.integrateRotations(id, id + 1, dt);
+
+                // Broadphase, then narrowphase on candidates only, swept when moving fast
+                staticContacts.beginTick();
+                solver.clear();
+                collisionOccurred |= staticContacts.collide(bodies, id, solver);
+                solver.solve(bodies);
             }
+            log.debug("At tick {} moved to {}", tick, bodies.position(id, position));
 
-            // Move the object
-            log.warn("At tick {} adding velocity {} to {}", tick, vel.y, object.getPosition());
-            object.getPosition().add(vel);
-
-            // Update rotation (if angular velocity used)
-            Quaternionf spin = new Quaternionf().rotateXYZ(
-                    object.getAngularVelocity().x,
-                    object.getAngularVelocity().y,
-                    object.getAngularVelocity().z
-            );
-            //object.getRotation().mul(spin);
-
-            // Build shape
-            PhysicsShape shape = object.currentShape();
-
-            // Collision check
-            for (PhysicsShape obstacle : obstacles) {
-                // todo return early on distance check
-
-                CollisionResult result = shape.collide(obstacle);
-                if (result != null) {
-                    CollisionResponder.apply(object, result, ctx.debug());
-                    collisionOccurred = true;
-                    break;
-                }
+            // Slot detection at the bottom
+            bodies.position(id, position);
+            if (slots != null && finalSlot < 0 && slots.hasLanded(position)) {
+                finalSlot = slots.slotAt(position);
             }
 
-            // Build frame transformation
-            Transformation transform = new Transformation(
-                    object.getPosition(),
-                    object.getRotation(),
-                    object.getScale(),
-                    new Quaternionf()
-            );
+            // Record frame
+            bodies.rotation(id, rotation);
+            bodies.scale(id, scale);
+            if (frames != null) frames.add(tick, position, rotation, scale, collisionOccurred);
+            if (hash != null) hash.addFrame(tick, position, rotation, scale, collisionOccurred);
 
-            frames.add(new PlinkoKeyframe(transform, collisionOccurred, tick));
+            // Stop once settled or gone
+            bodies.updateRest(id, id + 1, PlinkoWorld.REST_LINEAR_SPEED, PlinkoWorld.REST_ANGULAR_SPEED, PlinkoWorld.REST_TICKS);
+            if (bodies.sleeping[id] || position.y < exitY) {
+                if (slots != null && finalSlot < 0) finalSlot = slots.slotAt(position);
+                log.debug("Run settled after {} ticks, obstacle rejections {}", tick + 1, staticContacts.tiers());
+                break;
+            }
         }
 
-        int finalSlot = -1; // TODO: slot detection at the bottom
-        return new PlinkoAnimation(UUID.randomUUID(), frames, finalSlot);
+        return finalSlot;
+    }
+
+    /**
+     * Creates an empty world using this simulator's gravity, with the exit height set
+     * just below the obstacles and slot floor
+     */
+    public PlinkoWorld newWorld(
+            SpatialHashGrid obstacles,
+            int capacity,
+            @Nullable SlotLayout slots
+    ) {
+        return newWorld(obstacles, capacity, slots, DEFAULT_SOLVER);
+    }
+
+    public PlinkoWorld newWorld(
+            PlinkoBoard board,
+            int capacity
+    ) {
+        PlinkoWorld world = newWorld(board.obstacles(), capacity, board.slots(), board.solver());
+        world.setSubsteps(board.substeps());
+        return world;
+    }
+
+    private PlinkoWorld newWorld(
+            SpatialHashGrid obstacles,
+            int capacity,
+            @Nullable SlotLayout slots,
+            SolverConfig solverConfig
+    ) {
+        PlinkoWorld world = new PlinkoWorld(obstacles, capacity, GRAVITY, TERMINAL_VELOCITY, solverConfig);
+        world.setExitY(exitHeight(obstacles, slots));
+        return world;
+    }
+
+    private float exitHeight(SpatialHashGrid obstacles, @Nullable SlotLayout slots) {
+        float bottom = obstacles.lowestY();
+        if (slots != null) bottom = Math.min(bottom, slots.floorY());
+        return bottom - EXIT_MARGIN;
+    }
+
+    /**
+     * Simulates every object dropping at the same time, colliding with the obstacles
+     * and with each other
+     *
+     * @return one animation per object, in the same order
+     */
+    public List<PlinkoAnimation> simulateAll(
+            List<PlinkoObject> objects,
+            SpatialHashGrid obstacles,
+            @Nullable SlotLayout slots
+    ) {
+        return simulateAll(objects, newWorld(obstacles, Math.max(1, objects.size()), slots), slots);
+    }
+
+    public List<PlinkoAnimation> simulateAll(
+            List<PlinkoObject> objects,
+            PlinkoBoard board
+    ) {
+        return simulateAll(objects, newWorld(board, Math.max(1, objects.size())), board.slots());
+    }
+
+    private List<PlinkoAnimation> simulateAll(
+            List<PlinkoObject> objects,
+            PlinkoWorld world,
+            @Nullable SlotLayout slots
+    ) {
+        int n = objects.size();
+        for (PlinkoObject object : objects) world.spawn(object);
+
+        RigidBodyStore bodies = world.bodies();
+        PackedKeyframeTrack.Builder[] frames = new PackedKeyframeTrack.Builder[n];
+        int[] finalSlots = new int[n];
+        boolean[] done = new boolean[n];
+        for (int id = 0; id < n; id++) frames[id] = PackedKeyframeTrack.builder(MAX_TICKS);
+        Arrays.fill(finalSlots, -1);
+
+        Vector3f position = new Vector3f();
+        Quaternionf rotation = new Quaternionf();
+        Vector3f scale = new Vector3f();
+
+        for (int tick = 0; tick < MAX_TICKS && !world.isSettled(); tick++) {
+            world.step();
+
+            for (int id = 0; id < n; id++) {
+                if (done[id]) continue;
+
+                bodies.position(id, position);
+                if (slots != null && finalSlots[id] < 0 && slots.hasLanded(position)) {
+                    finalSlots[id] = slots.slotAt(position);
+                }
+                frames[id].add(tick, position, bodies.rotation(id, rotation), bodies.scale(id, scale), world.collided(id));
+
+                // Exited bodies never come back, their track ends here
+                if (world.hasExited(id)) done[id] = true;
+            }
+        }
+
+        // Anything still on the board gets the slot it settled above
+        if (slots != null) {
+            for (int id = 0; id < n; id++) {
+                if (finalSlots[id] < 0) finalSlots[id] = slots.slotAt(bodies.position(id, position));
+            }
+        }
+
+        List<PlinkoAnimation> animations = new ArrayList<>(n);
+        for (int id = 0; id < n; id++) {
+            animations.add(new PlinkoAnimation(UUID.randomUUID(), frames[id].build(), finalSlots[id]));
+        }
+        return animations;
     }
 
 }
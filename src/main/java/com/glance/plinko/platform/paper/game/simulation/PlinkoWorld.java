@@ -0,0 +1,263 @@
+package com.glance.plinko.platform.paper.game.simulation;
+
+import com.glance.plinko.platform.paper.config.SolverConfig;
+import com.glance.plinko.platform.paper.physics.broadphase.SpatialHashGrid;
+import com.glance.plinko.platform.paper.physics.broadphase.SweepAndPrune;
+import com.glance.plinko.platform.paper.physics.collision.CollisionResult;
+import com.glance.plinko.platform.paper.physics.collision.ContactSolver;
+import com.glance.plinko.platform.paper.physics.collision.batch.TierCounters;
+import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+
+/**
+ * Advances many dynamic bodies together against a shared static obstacle grid
+ * <p>
+ * Bodies collide with the obstacles through the grid and with each other through a
+ * {@link SweepAndPrune} broadphase, every contact of a step is then resolved together by a
+ * {@link ContactSolver}
+ * <p>
+ * Each {@link #step()} is one displayed tick, split into a fixed number of equal physics steps
+ * (see {@link #setSubsteps}). Velocities stay in blocks per tick whatever the split
+ * <p>
+ * Bodies that stay nearly still for {@link #REST_TICKS} ticks fall asleep and are skipped
+ * until something touches them, bodies falling below the exit height leave the world for good
+ * <p>
+ * Not thread-safe, a world belongs to one simulation at a time
+ */
+public final class PlinkoWorld {
+
+    public static final float REST_LINEAR_SPEED = 0.005F;
+    public static final float REST_ANGULAR_SPEED = 0.01F;
+    public static final int REST_TICKS = 10;
+
+    private final SpatialHashGrid obstacles;
+    private final StaticContactPass staticContacts;
+    private final RigidBodyStore bodies;
+    private final SweepAndPrune broadphase;
+    private final ContactSolver solver;
+
+    private final float gravityX, gravityY, gravityZ;
+    private final float terminalVelocity;
+
+    // Whether each body started a contact this tick
+    private final boolean[] collided;
+    private final boolean[] exited;
+    private float exitY = Float.NEGATIVE_INFINITY;
+
+    private int substeps = 1;
+    private float dt = 1F;
+
+    private final Vector3f position = new Vector3f();
+    private final Vector3f extents = new Vector3f();
+
+    private int tick;
+
+    public PlinkoWorld(
+        @NotNull SpatialHashGrid obstacles,
+        int capacity,
+        @NotNull Vector3f gravity,
+        float terminalVelocity
+    ) {
+        this(obstacles, capacity, gravity, terminalVelocity, SolverConfig.defaults());
+    }
+
+    public PlinkoWorld(
+        @NotNull SpatialHashGrid obstacles,
+        int capacity,
+        @NotNull Vector3f gravity,
+        float terminalVelocity,
+        @NotNull SolverConfig solverConfig
+    ) {
+        this.obstacles = obstacles;
+        this.staticContacts = new StaticContactPass(obstacles, capacity);
+        this.bodies = new RigidBodyStore(capacity);
+        this.broadphase = new SweepAndPrune(capacity);
+        this.solver = new ContactSolver(capacity, solverConfig, staticContacts.contacts());
+        this.collided = new boolean[capacity];
+        this.exited = new boolean[capacity];
+
+        this.gravityX = gravity.x;
+        this.gravityY = gravity.y;
+        this.gravityZ = gravity.z;
+        this.terminalVelocity = terminalVelocity;
+    }
+
+    /**
+     * Adds a body copying the template's shape, mass properties and current state
+     *
+     * @return the new body id
+     */
+    public int spawn(@NotNull PlinkoObject template) {
+        int id = bodies.add(template.getBaseShape(), template.getMass(), template.getAngularSpinFactor());
+
+        PlinkoObject body = bodies.view(id);
+        body.setPosition(template.getPosition());
+        body.setVelocity(template.getVelocity());
+        body.setRotation(template.getRotation());
+        body.setAngularVelocity(template.getAngularVelocity());
+        body.setScale(template.getScale());
+        body.setBounciness(template.getBounciness());
+        body.setFriction(template.getFriction());
+
+        broadphase.add(id);
+        return id;
+    }
+
+    public @NotNull PlinkoObject body(int id) {
+        return bodies.view(id);
+    }
+
+    public @NotNull RigidBodyStore bodies() {
+        return bodies;
+    }
+
+    public @NotNull SpatialHashGrid obstacles() {
+        return obstacles;
+    }
+
+    public int bodyCount() {
+        return bodies.count();
+    }
+
+    public int tick() {
+        return tick;
+    }
+
+    /** @return the cached body-vs-obstacle contacts, for stats */
+    public @NotNull ContactCache staticContacts() {
+        return staticContacts.contacts();
+    }
+
+    /** @return how many body-vs-obstacle pairs each rejection tier dropped, for tuning layouts */
+    public @NotNull TierCounters rejectionTiers() {
+        return staticContacts.tiers();
+    }
+
+    /** @return true if the body hit an obstacle or started touching another body in any step of this tick */
+    public boolean collided(int id) {
+        return collided[id];
+    }
+
+    /**
+     * Bodies whose centre drops below this height leave the world
+     */
+    public void setExitY(float exitY) {
+        this.exitY = exitY;
+    }
+
+    /**
+     * Physics steps per {@link #step()}, each moving bodies by {@code 1 / substeps} of their per-tick velocity
+     */
+    public void setSubsteps(int substeps) {
+        if (substeps < 1) throw new IllegalArgumentException("substeps must be at least 1");
+        this.substeps = substeps;
+        this.dt = 1F / substeps;
+    }
+
+    public int substeps() {
+        return substeps;
+    }
+
+    public boolean isSleeping(int id) {
+        return bodies.sleeping[id];
+    }
+
+    public boolean hasExited(int id) {
+        return exited[id];
+    }
+
+    /** Wakes a sleeping body, exited bodies stay gone */
+    public void wake(int id) {
+        if (!exited[id]) bodies.wake(id);
+    }
+
+    /**
+     * @return true once every dynamic body is asleep or has exited, stepping further changes nothing
+     */
+    public boolean isSettled() {
+        int n = bodies.count();
+        for (int id = 0; id < n; id++) {
+            if (bodies.invMass[id] > 0F && !bodies.sleeping[id]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Advances every body by one tick, running each substep's contacts and solve in turn
+     * <p>
+     * Sleep and exits are only decided once the tick is complete, so they line up with keyframes
+     */
+    public void step() {
+        int n = bodies.count();
+        Arrays.fill(collided, 0, n, false);
+
+        for (int step = 0; step < substeps; step++) {
+            bodies.applyGravity(0, n, gravityX * dt, gravityY * dt, gravityZ * dt, terminalVelocity);
+            bodies.integratePositions(0, n, dt);
+            bodies.integrateRotations(0, n, dt);
+
+            solver.clear();
+            collideStatic(n);
+            collideDynamic(n);
+            solver.solve(bodies);
+        }
+
+        bodies.updateRest(0, n, REST_LINEAR_SPEED, REST_ANGULAR_SPEED, REST_TICKS);
+        checkExits(n);
+
+        tick++;
+    }
+
+    private void collideStatic(int n) {
+        staticContacts.beginTick();
+        for (int id = 0; id < n; id++) {
+            if (bodies.invMass[id] == 0F || bodies.sleeping[id]) continue;
+            if (staticContacts.collide(bodies, id, solver)) collided[id] = true;
+        }
+    }
+
+    private void collideDynamic(int n) {
+        for (int id = 0; id < n; id++) {
+            PhysicsShape shape = bodies.shape(id);
+            broadphase.setBounds(id, bodies.position(id, position), shape.aabbHalfExtents(extents));
+        }
+
+        int pairs = broadphase.update();
+        for (int p = 0; p < pairs; p++) {
+            int a = broadphase.pairA(p);
+            int b = broadphase.pairB(p);
+            if (isResting(a) && isResting(b)) continue;
+
+            CollisionResult result = bodies.shape(a).collide(bodies.shape(b));
+            if (result == null) continue;
+
+            // Anything awake touching a sleeper wakes it
+            if (bodies.sleeping[a]) bodies.wake(a);
+            if (bodies.sleeping[b]) bodies.wake(b);
+
+            solver.add(bodies, a, b, result, result.penetrationDepth(), -1);
+            if (broadphase.isNew(p)) {
+                collided[a] = true;
+                collided[b] = true;
+            }
+        }
+    }
+
+    private void checkExits(int n) {
+        for (int id = 0; id < n; id++) {
+            if (exited[id] || bodies.invMass[id] == 0F || bodies.py[id] >= exitY) continue;
+
+            exited[id] = true;
+            bodies.sleep(id);
+            broadphase.setActive(id, false);
+        }
+    }
+
+    private boolean isResting(int id) {
+        return bodies.invMass[id] == 0F || bodies.sleeping[id];
+    }
+
+}
@@ -0,0 +1,374 @@
+package com.glance.plinko.platform.paper.game.simulation;
+
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
+import com.glance.plinko.platform.paper.physics.shape.Sphere;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix3f;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+/**
+ * Structure-of-arrays state for a fixed number of rigid bodies
+ * <p>
+ * Each component lives in its own contiguous array indexed by body id, so per-tick loops
+ * over every body stay branch-light and the JIT can vectorize them. Arrays are exposed
+ * directly for the simulator, everything else should go through a {@link PlinkoObject} view
+ * <p>
+ * Not thread-safe, a store belongs to one simulation at a time
+ */
+public final class RigidBodyStore {
+
+    static final float IMMOVABLE_MASS_THRESHOLD = 1000.0F;
+
+    // Coulomb friction of a body with no stickiness configured
+    public static final float BASE_FRICTION = 0.25F;
+    // Restitution of a body with no bounciness configured, matches PlinkoObjectConfig
+    public static final float DEFAULT_BOUNCINESS = 0.5F;
+    private static final float MIN_SPEED_SQ = 1e-12F;
+    // Below this squared angle per step exp(w/2) uses its Taylor series
+    private static final float SMALL_ANGLE_SQ = 1e-4F;
+    private static final float ROTATION_DRIFT = 1e-5F;
+
+    private final int capacity;
+    private int count;
+
+    // Position and position at the start of the current tick
+    public final float[] px, py, pz;
+    public final float[] ppx, ppy, ppz;
+
+    public final float[] vx, vy, vz;
+
+    // Orientation quaternion
+    public final float[] qx, qy, qz, qw;
+
+    public final float[] wx, wy, wz;
+
+    public final float[] sx, sy, sz;
+
+    // 0 for immovable bodies, so bulk integration needs no branch
+    public final float[] invMass;
+    public final float[] invInertia;
+    public final float[] bounciness;
+    public final float[] friction;
+
+    // Sleeping bodies keep zero velocity and take no gravity until woken
+    public final boolean[] sleeping;
+    private final int[] restTicks;
+
+    private final float[] mass;
+    private final float[] angularSpinFactor;
+    private final PhysicsShape[] baseShapes;
+
+    // World shapes updated in place by shape(id)
+    private final PhysicsShape[] shapes;
+    private final Quaternionf scratchRotation = new Quaternionf();
+
+    public RigidBodyStore(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        this.capacity = capacity;
+
+        this.px = new float[capacity]; this.py = new float[capacity]; this.pz = new float[capacity];
+        this.ppx = new float[capacity]; this.ppy = new float[capacity]; this.ppz = new float[capacity];
+        this.vx = new float[capacity]; this.vy = new float[capacity]; this.vz = new float[capacity];
+        this.qx = new float[capacity]; this.qy = new float[capacity]; this.qz = new float[capacity];
+        this.qw = new float[capacity];
+        this.wx = new float[capacity]; this.wy = new float[capacity]; this.wz = new float[capacity];
+        this.sx = new float[capacity]; this.sy = new float[capacity]; this.sz = new float[capacity];
+
+        this.invMass = new float[capacity];
+        this.invInertia = new float[capacity];
+        this.bounciness = new float[capacity];
+        this.friction = new float[capacity];
+        this.sleeping = new boolean[capacity];
+        this.restTicks = new int[capacity];
+        this.mass = new float[capacity];
+        this.angularSpinFactor = new float[capacity];
+        this.baseShapes = new PhysicsShape[capacity];
+        this.shapes = new PhysicsShape[capacity];
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Adds a body at rest at its base shape's centre
+     *
+     * @return the new body id
+     */
+    public int add(
+        @NotNull PhysicsShape baseShape,
+        float mass,
+        float angularSpinFactor
+    ) {
+        if (count == capacity) throw new IllegalStateException("Body store is full (" + capacity + ")");
+        int id = count++;
+
+        Vector3f c = baseShape.center();
+        px[id] = c.x; py[id] = c.y; pz[id] = c.z;
+        ppx[id] = c.x; ppy[id] = c.y; ppz[id] = c.z;
+        qw[id] = 1F;
+        sx[id] = 1F; sy[id] = 1F; sz[id] = 1F;
+        bounciness[id] = DEFAULT_BOUNCINESS;
+        friction[id] = BASE_FRICTION;
+
+        this.mass[id] = mass;
+        this.angularSpinFactor[id] = angularSpinFactor;
+        this.baseShapes[id] = baseShape;
+        this.shapes[id] = switch (baseShape) {
+            case OrientedBox box -> new OrientedBox(new Vector3f(c), box.halfSize(), new Matrix3f(), new Vector3f(1F));
+            case Sphere sphere -> new Sphere(new Vector3f(c), sphere.radius());
+        };
+
+        recomputeMassProperties(id);
+        return id;
+    }
+
+    public @NotNull PlinkoObject view(int id) {
+        checkId(id);
+        return new PlinkoObject(this, id);
+    }
+
+    public float mass(int id) {
+        return mass[id];
+    }
+
+    public float angularSpinFactor(int id) {
+        return angularSpinFactor[id];
+    }
+
+    public boolean isImmovable(int id) {
+        return mass[id] >= IMMOVABLE_MASS_THRESHOLD;
+    }
+
+    public @NotNull PhysicsShape baseShape(int id) {
+        return baseShapes[id];
+    }
+
+    /**
+     * World-space shape of a body at its current state
+     * <p>
+     * The returned instance is owned by the store and updated in place on the next call,
+     * copy it if it needs to outlive that
+     */
+    public @NotNull PhysicsShape shape(int id) {
+        PhysicsShape shape = shapes[id];
+        switch (shape) {
+            case OrientedBox box -> {
+                box.center().set(px[id], py[id], pz[id]);
+                box.rotation().rotation(scratchRotation.set(qx[id], qy[id], qz[id], qw[id]));
+                box.scale().set(sx[id], sy[id], sz[id]);
+            }
+            case Sphere sphere -> {
+                float radius = ((Sphere) baseShapes[id]).radius() * maxScale(id);
+                if (sphere.radius() != radius) {
+                    sphere = new Sphere(sphere.center(), radius);
+                    shapes[id] = sphere;
+                }
+                sphere.center().set(px[id], py[id], pz[id]);
+                return sphere;
+            }
+        }
+        return shape;
+    }
+
+    /**
+     * Adds gravity to every awake dynamic body in [from, to) and clamps it to {@code maxSpeed}
+     */
+    public void applyGravity(
+        int from,
+        int to,
+        float gx, float gy, float gz,
+        float maxSpeed
+    ) {
+        for (int i = from; i < to; i++) {
+            float dynamic = invMass[i] > 0F && !sleeping[i] ? 1F : 0F;
+            float x = vx[i] + gx * dynamic;
+            float y = vy[i] + gy * dynamic;
+            float z = vz[i] + gz * dynamic;
+
+            float speedSq = x * x + y * y + z * z;
+            float clamp = Math.min(1F, maxSpeed / (float) Math.sqrt(Math.max(speedSq, MIN_SPEED_SQ)));
+
+            vx[i] = x * clamp;
+            vy[i] = y * clamp;
+            vz[i] = z * clamp;
+        }
+    }
+
+    /**
+     * Remembers the current position of every body in [from, to), then moves it by its velocity
+     * over {@code dt} ticks
+     */
+    public void integratePositions(int from, int to, float dt) {
+        for (int i = from; i < to; i++) {
+            ppx[i] = px[i];
+            ppy[i] = py[i];
+            ppz[i] = pz[i];
+
+            px[i] += vx[i] * dt;
+            py[i] += vy[i] * dt;
+            pz[i] += vz[i] * dt;
+        }
+    }
+
+    /**
+     * Turns every body in [from, to) by its angular velocity over {@code dt} ticks
+     * <p>
+     * The world-space rotation vector w * dt is applied exactly as the quaternion exp(w * dt / 2), so fast
+     * spins don't shrink or skew the orientation. Float rounding still drifts the length slowly,
+     * it is renormalized once it moves more than {@link #ROTATION_DRIFT} from 1
+     */
+    public void integrateRotations(int from, int to, float dt) {
+        for (int i = from; i < to; i++) {
+            float x = wx[i] * dt, y = wy[i] * dt, z = wz[i] * dt;
+            float angleSq = x * x + y * y + z * z;
+            if (angleSq == 0F) continue;
+
+            // exp(w/2) = (w * sin(|w|/2) / |w|, cos(|w|/2)), Taylor terms near 0 where the ratio loses precision
+            float s, c;
+            if (angleSq < SMALL_ANGLE_SQ) {
+                s = 0.5F - angleSq / 48F;
+                c = 1F - angleSq / 8F;
+            } else {
+                float angle = (float) Math.sqrt(angleSq);
+                s = (float) StrictMath.sin(angle * 0.5F) / angle;
+                c = (float) StrictMath.cos(angle * 0.5F);
+            }
+            float dx = x * s, dy = y * s, dz = z * s;
+
+            // q = dq * q
+            float ax = qx[i], ay = qy[i], az = qz[i], aw = qw[i];
+            float nx = c * ax + dx * aw + dy * az - dz * ay;
+            float ny = c * ay - dx * az + dy * aw + dz * ax;
+            float nz = c * az + dx * ay - dy * ax + dz * aw;
+            float nw = c * aw - dx * ax - dy * ay - dz * az;
+
+            float lengthSq = nx * nx + ny * ny + nz * nz + nw * nw;
+            if (Math.abs(lengthSq - 1F) > ROTATION_DRIFT) {
+                float inv = 1F / (float) Math.sqrt(lengthSq);
+                nx *= inv; ny *= inv; nz *= inv; nw *= inv;
+            }
+            qx[i] = nx; qy[i] = ny; qz[i] = nz; qw[i] = nw;
+        }
+    }
+
+    /**
+     * Tracks how long each dynamic body in [from, to) has been nearly still and puts it to
+     * sleep once it has stayed below both speed thresholds for {@code ticksToSleep} ticks
+     */
+    public void updateRest(
+        int from,
+        int to,
+        float linearSpeed,
+        float angularSpeed,
+        int ticksToSleep
+    ) {
+        float linearSq = linearSpeed * linearSpeed;
+        float angularSq = angularSpeed * angularSpeed;
+        for (int i = from; i < to; i++) {
+            if (sleeping[i] || invMass[i] == 0F) continue;
+
+            float v = vx[i] * vx[i] + vy[i] * vy[i] + vz[i] * vz[i];
+            float w = wx[i] * wx[i] + wy[i] * wy[i] + wz[i] * wz[i];
+            if (v < linearSq && w < angularSq) {
+                if (++restTicks[i] >= ticksToSleep) sleep(i);
+            } else {
+                restTicks[i] = 0;
+            }
+        }
+    }
+
+    public void sleep(int id) {
+        sleeping[id] = true;
+        vx[id] = 0F; vy[id] = 0F; vz[id] = 0F;
+        wx[id] = 0F; wy[id] = 0F; wz[id] = 0F;
+    }
+
+    public void wake(int id) {
+        sleeping[id] = false;
+        restTicks[id] = 0;
+    }
+
+    public Vector3f position(int id, @NotNull Vector3f dest) {
+        return dest.set(px[id], py[id], pz[id]);
+    }
+
+    public Vector3f previousPosition(int id, @NotNull Vector3f dest) {
+        return dest.set(ppx[id], ppy[id], ppz[id]);
+    }
+
+    public Vector3f velocity(int id, @NotNull Vector3f dest) {
+        return dest.set(vx[id], vy[id], vz[id]);
+    }
+
+    public Vector3f angularVelocity(int id, @NotNull Vector3f dest) {
+        return dest.set(wx[id], wy[id], wz[id]);
+    }
+
+    public Quaternionf rotation(int id, @NotNull Quaternionf dest) {
+        return dest.set(qx[id], qy[id], qz[id], qw[id]);
+    }
+
+    public Vector3f scale(int id, @NotNull Vector3f dest) {
+        return dest.set(sx[id], sy[id], sz[id]);
+    }
+
+    public void setPosition(int id, float x, float y, float z) {
+        px[id] = x; py[id] = y; pz[id] = z;
+    }
+
+    public void setVelocity(int id, float x, float y, float z) {
+        vx[id] = x; vy[id] = y; vz[id] = z;
+    }
+
+    public void setAngularVelocity(int id, float x, float y, float z) {
+        wx[id] = x; wy[id] = y; wz[id] = z;
+    }
+
+    public void setRotation(int id, float x, float y, float z, float w) {
+        qx[id] = x; qy[id] = y; qz[id] = z; qw[id] = w;
+    }
+
+    public void setScale(int id, float x, float y, float z) {
+        sx[id] = x; sy[id] = y; sz[id] = z;
+    }
+
+    private float maxScale(int id) {
+        return Math.max(sx[id], Math.max(sy[id], sz[id]));
+    }
+
+    private void recomputeMassProperties(int id) {
+        if (isImmovable(id)) {
+            invMass[id] = 0F;
+            invInertia[id] = 0F;
+            return;
+        }
+
+        float m = mass[id];
+        invMass[id] = m <= 0F ? 0F : 1F / m;
+
+        float r = 0.5F;
+        if (baseShapes[id] instanceof OrientedBox box) {
+            float hx = box.halfSize().x * sx[id];
+            float hy = box.halfSize().y * sy[id];
+            float hz = box.halfSize().z * sz[id];
+            r = (float) Math.sqrt(hx * hx + hy * hy + hz * hz);
+        } else if (baseShapes[id] instanceof Sphere sphere) {
+            r = sphere.radius() * maxScale(id);
+        }
+
+        // sphere inertia approx
+        invInertia[id] = r < 1e-4F ? 0F : (5F / 2F) * invMass[id] / (r * r);
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= count) throw new IndexOutOfBoundsException("No body " + id + " (count " + count + ")");
+    }
+
+}
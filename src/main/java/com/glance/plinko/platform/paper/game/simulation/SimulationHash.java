@@ -0,0 +1,104 @@
+package com.glance.plinko.platform.paper.game.simulation;
+
+import com.glance.plinko.platform.paper.animation.KeyframeTrack;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Options;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+/**
+ * Running 64-bit digest of a simulation, built from the exact bits of every recorded frame
+ * <p>
+ * Java float arithmetic is strict and {@code sqrt}/{@code fma} are exactly rounded, so the same
+ * inputs produce the same bits on any node. What can still differ is global JOML configuration,
+ * which swaps in approximations or fused operations, so those switches are folded into the seed
+ * and a mismatched node shows up as a different hash rather than a silently different run
+ * <p>
+ * Two runs match when their hashes match, without storing or shipping either animation
+ */
+public final class SimulationHash {
+
+    // Bump whenever the simulation changes in a way that moves frames
+    public static final int VERSION = 4;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long hash;
+
+    public SimulationHash() {
+        this.hash = FNV_OFFSET;
+        addInt(VERSION);
+        addInt(mathProfile());
+    }
+
+    /** @return a hash of a full-precision track and its final slot, equal to the simulator's for the same run */
+    public static long of(
+        @NotNull KeyframeTrack track,
+        int finalSlot
+    ) {
+        SimulationHash hash = new SimulationHash();
+        Vector3f position = new Vector3f();
+        Quaternionf rotation = new Quaternionf();
+        Vector3f scale = new Vector3f();
+        for (int frame = 0; frame < track.size(); frame++) {
+            hash.addFrame(
+                track.tick(frame),
+                track.position(frame, position),
+                track.rotation(frame, rotation),
+                track.scale(frame, scale),
+                track.collision(frame)
+            );
+        }
+        return hash.finish(finalSlot);
+    }
+
+    public void addFrame(
+        int tick,
+        @NotNull Vector3f position,
+        @NotNull Quaternionf rotation,
+        @NotNull Vector3f scale,
+        boolean collision
+    ) {
+        addInt(tick);
+        addFloat(position.x); addFloat(position.y); addFloat(position.z);
+        addFloat(rotation.x); addFloat(rotation.y); addFloat(rotation.z); addFloat(rotation.w);
+        addFloat(scale.x); addFloat(scale.y); addFloat(scale.z);
+        addInt(collision ? 1 : 0);
+    }
+
+    /** @return the final hash, the digest must not be used afterwards */
+    public long finish(int finalSlot) {
+        addInt(finalSlot);
+        return mix(hash);
+    }
+
+    private void addFloat(float value) {
+        // Canonical NaN, -0 stays distinct since it is a real divergence
+        addInt(Float.floatToIntBits(value));
+    }
+
+    private void addInt(int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            hash ^= (value >>> shift) & 0xFF;
+            hash *= FNV_PRIME;
+        }
+    }
+
+    private static int mathProfile() {
+        return (Options.FASTMATH ? 1 : 0)
+            | (Options.SIN_LOOK_UP ? 2 : 0)
+            | (Options.USE_MATH_FMA ? 4 : 0);
+    }
+
+    // Murmur3 finalizer, spreads FNV's weak high bits
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53b9a53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.glance.plinko.platform.paper.game.simulation;
+
+import com.glance.plinko.platform.paper.physics.broadphase.SpatialHashGrid;
+import com.glance.plinko.platform.paper.physics.collision.CollisionResponder;
+import com.glance.plinko.platform.paper.physics.collision.CollisionResult;
+import com.glance.plinko.platform.paper.physics.collision.ContactSolver;
+import com.glance.plinko.platform.paper.physics.collision.batch.SeparatingAxisBatch;
+import com.glance.plinko.platform.paper.physics.collision.batch.TierCounters;
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Vector3f;
+
+/**
+ * Collects a body's contacts with the static obstacle grid for the tick it just moved through
+ * <p>
+ * A body that moved further than a fraction of the thinnest obstacle is rewound and swept
+ * forward in substeps, stopping at the first substep that touches anything (conservative
+ * advancement), so fast balls can't step over a thin peg. Slower bodies take a single
+ * test at their end position, exactly as before
+ * <p>
+ * Contacts are kept in a {@link ContactCache}, a body resting against the same obstacle
+ * reuses last tick's manifold instead of re-running narrowphase. Every touching obstacle is
+ * handed to a {@link ContactSolver}, which warm-starts from the cached impulses
+ * <p>
+ * Box bodies first run their grid candidates through a {@link SeparatingAxisBatch}, which
+ * rejects separated obstacles by bounding sphere, AABB, then SAT axes before the per-pair
+ * narrowphase, and tallies each tier in {@link #tiers()}
+ * <p>
+ * Not thread-safe, holds a grid query, a contact cache and scratch vectors
+ */
+final class StaticContactPass {
+
+    // Largest move per test as a fraction of the thinnest obstacle
+    static final float CCD_FRACTION = 0.5F;
+    static final int MAX_SUBSTEPS = 16;
+
+    private final SpatialHashGrid obstacles;
+    private final SpatialHashGrid.Query query;
+    private final SeparatingAxisBatch batch;
+    private final int[] survivors;
+    private final TierCounters tiers = new TierCounters();
+    private final ContactCache contacts;
+    private final float maxStep;
+    private final float maxStepSq;
+
+    private final Vector3f from = new Vector3f();
+    private final Vector3f to = new Vector3f();
+    private final Vector3f extents = new Vector3f();
+
+    StaticContactPass(
+        @NotNull SpatialHashGrid obstacles,
+        int bodies
+    ) {
+        this.obstacles = obstacles;
+        this.query = obstacles.newQuery();
+        this.batch = SeparatingAxisBatch.preferred();
+        this.survivors = new int[obstacles.size()];
+        this.contacts = new ContactCache(bodies);
+        this.maxStep = obstacles.smallestExtent() * CCD_FRACTION;
+        this.maxStepSq = maxStep * maxStep;
+    }
+
+    /** Call once per tick before colliding any body */
+    void beginTick() {
+        contacts.beginTick();
+    }
+
+    @NotNull ContactCache contacts() {
+        return contacts;
+    }
+
+    @NotNull TierCounters tiers() {
+        return tiers;
+    }
+
+    /**
+     * Tests the body's motion from its previous to its current position and adds every
+     * obstacle it touches to the solver
+     *
+     * @return true if the body hit an obstacle
+     */
+    boolean collide(
+        @NotNull RigidBodyStore bodies,
+        int id,
+        @NotNull ContactSolver solver
+    ) {
+        float sx = bodies.ppx[id], sy = bodies.ppy[id], sz = bodies.ppz[id];
+        float dx = bodies.px[id] - sx;
+        float dy = bodies.py[id] - sy;
+        float dz = bodies.pz[id] - sz;
+        float distSq = dx * dx + dy * dy + dz * dz;
+
+        if (distSq <= maxStepSq) {
+            return test(bodies, id, solver, from.set(sx, sy, sz), to.set(bodies.px[id], bodies.py[id], bodies.pz[id]));
+        }
+
+        int steps = Math.min(MAX_SUBSTEPS, (int) Math.ceil(Math.sqrt(distSq) / maxStep));
+        from.set(sx, sy, sz);
+        for (int s = 1; s <= steps; s++) {
+            float t = (float) s / steps;
+            to.set(sx + dx * t, sy + dy * t, sz + dz * t);
+            bodies.setPosition(id, to.x, to.y, to.z);
+
+            if (test(bodies, id, solver, from, to)) return true;
+            from.set(to);
+        }
+        return false;
+    }
+
+    private boolean test(
+        RigidBodyStore bodies,
+        int id,
+        ContactSolver solver,
+        Vector3f start,
+        Vector3f end
+    ) {
+        PhysicsShape shape = bodies.shape(id);
+        int candidates = query.querySwept(start, end, shape.aabbHalfExtents(extents));
+        int[] indices = query.indices();
+        if (shape instanceof OrientedBox box && candidates > 0) {
+            candidates = batch.retainOverlapping(box, obstacles.lanes(), indices, candidates, survivors, tiers);
+            indices = survivors;
+        }
+
+        boolean hit = false;
+        for (int i = 0; i < candidates; i++) {
+            int obstacle = indices[i];
+            int slot = contacts.find(id, obstacle);
+
+            CollisionResult result;
+            float depth;
+            if (slot >= 0 && !Float.isNaN(depth = contacts.reuseDepth(slot, bodies, id))) {
+                if (depth <= 0F) {
+                    // Barely moved, but away from the obstacle, the contact opened
+                    contacts.clearImpulses(slot);
+                    continue;
+                }
+                result = contacts.result(slot);
+            } else {
+                result = obstacles.obstacle(obstacle).collide(shape);
+                if (result == null) continue;
+                slot = contacts.store(id, obstacle, result, bodies);
+                depth = result.penetrationDepth();
+            }
+
+            solver.add(bodies, id, CollisionResponder.STATIC, result, depth, slot);
+            hit = true;
+        }
+        return hit;
+    }
+
+}
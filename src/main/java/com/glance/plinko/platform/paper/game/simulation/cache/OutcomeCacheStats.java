@@ -0,0 +1,19 @@
+package com.glance.plinko.platform.paper.game.simulation.cache;
+
+/**
+ * Point-in-time counters for a {@link PlinkoOutcomeCache}
+ */
+public record OutcomeCacheStats(
+    long hits,
+    long misses,
+    long evictions,
+    int entries,
+    long storedFrames
+) {
+
+    public double hitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0D : (double) hits / total;
+    }
+
+}
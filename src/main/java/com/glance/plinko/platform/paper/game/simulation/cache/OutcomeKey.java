@@ -0,0 +1,112 @@
+package com.glance.plinko.platform.paper.game.simulation.cache;
+
+import com.glance.plinko.platform.paper.config.PlinkoObjectConfig;
+import com.glance.plinko.platform.paper.game.simulation.PlinkoObject;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+
+/**
+ * Cache key for a deterministic drop: board fingerprint plus quantized object config
+ * and start state
+ * <p>
+ * Start state is quantized to fixed steps, {@link #snap(PlinkoObject)} moves an object onto
+ * its bucket's representative state so cached runs are exact for every hit
+ */
+public final class OutcomeKey {
+
+    public static final float POSITION_STEP = 1F / 64F;
+    public static final float VELOCITY_STEP = 1F / 512F;
+    public static final float ROTATION_STEP = 1F / 1024F;
+    public static final float PROPERTY_STEP = 1F / 1024F;
+
+    private final long board;
+    private final int[] quantized;
+    private final int hash;
+
+    private OutcomeKey(long board, int[] quantized) {
+        this.board = board;
+        this.quantized = quantized;
+        this.hash = 31 * Long.hashCode(board) + Arrays.hashCode(quantized);
+    }
+
+    public static @NotNull OutcomeKey of(
+        long boardFingerprint,
+        @NotNull PlinkoObjectConfig config,
+        @NotNull PlinkoObject object
+    ) {
+        Vector3f pos = object.getPosition();
+        Vector3f vel = object.getVelocity();
+        Vector3f ang = object.getAngularVelocity();
+        Quaternionf rot = object.getRotation();
+        Vector3f scale = object.getScale();
+        var displayScale = config.displayOptions().scale();
+
+        int[] q = {
+            config.shape().ordinal(),
+            q(config.mass(), PROPERTY_STEP),
+            q(config.angularSpinFactor(), PROPERTY_STEP),
+            q(config.bounciness(), PROPERTY_STEP),
+            q(config.stickiness(), PROPERTY_STEP),
+            q((float) displayScale.getX(), PROPERTY_STEP),
+            q((float) displayScale.getY(), PROPERTY_STEP),
+            q((float) displayScale.getZ(), PROPERTY_STEP),
+            q(object.getBounciness(), PROPERTY_STEP),
+            q(scale.x, PROPERTY_STEP), q(scale.y, PROPERTY_STEP), q(scale.z, PROPERTY_STEP),
+            q(pos.x, POSITION_STEP), q(pos.y, POSITION_STEP), q(pos.z, POSITION_STEP),
+            q(vel.x, VELOCITY_STEP), q(vel.y, VELOCITY_STEP), q(vel.z, VELOCITY_STEP),
+            q(ang.x, VELOCITY_STEP), q(ang.y, VELOCITY_STEP), q(ang.z, VELOCITY_STEP),
+            q(rot.x, ROTATION_STEP), q(rot.y, ROTATION_STEP), q(rot.z, ROTATION_STEP), q(rot.w, ROTATION_STEP)
+        };
+        return new OutcomeKey(boardFingerprint, q);
+    }
+
+    /**
+     * Moves the object's start state onto the exact values this key's bucket represents
+     */
+    public static void snap(@NotNull PlinkoObject object) {
+        object.setPosition(snap(object.getPosition(), POSITION_STEP));
+        object.setVelocity(snap(object.getVelocity(), VELOCITY_STEP));
+        object.setAngularVelocity(snap(object.getAngularVelocity(), VELOCITY_STEP));
+
+        Quaternionf rot = object.getRotation();
+        rot.set(s(rot.x, ROTATION_STEP), s(rot.y, ROTATION_STEP), s(rot.z, ROTATION_STEP), s(rot.w, ROTATION_STEP)).normalize();
+        object.setRotation(rot);
+    }
+
+    public long board() {
+        return board;
+    }
+
+    private static Vector3f snap(@NotNull Vector3f v, float step) {
+        return v.set(s(v.x, step), s(v.y, step), s(v.z, step));
+    }
+
+    private static int q(float v, float step) {
+        return Math.round(v / step);
+    }
+
+    private static float s(float v, float step) {
+        return q(v, step) * step;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OutcomeKey other)) return false;
+        return board == other.board && hash == other.hash && Arrays.equals(quantized, other.quantized);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "OutcomeKey[board=" + Long.toHexString(board) + ", state=" + Arrays.toString(quantized) + "]";
+    }
+
+}
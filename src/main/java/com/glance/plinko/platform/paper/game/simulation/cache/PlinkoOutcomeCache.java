@@ -0,0 +1,163 @@
+package com.glance.plinko.platform.paper.game.simulation.cache;
+
+import com.glance.plinko.platform.paper.animation.PlinkoAnimation;
+import com.glance.plinko.platform.paper.game.PlinkoBoard;
+import com.glance.plinko.platform.paper.game.simulation.PlinkoObject;
+import com.glance.plinko.platform.paper.game.simulation.PlinkoRunContext;
+import com.glance.plinko.platform.paper.game.simulation.PlinkoSimulator;
+import com.glance.plinko.platform.paper.physics.broadphase.SpatialHashGrid;
+import com.glance.plinko.utils.lifecycle.Manager;
+import com.google.auto.service.AutoService;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache in front of {@link PlinkoSimulator#simulate}
+ * <p>
+ * Drops are deterministic, so the same board, config and quantized start state always
+ * produce the same animation. Misses snap the object onto its key's representative
+ * start state before simulating, so a cached run is exact for every later hit
+ * <p>
+ * Bounded by entry count and by total stored frames, whichever is hit first
+ */
+@Slf4j
+@Singleton
+@AutoService(Manager.class)
+public class PlinkoOutcomeCache implements Manager {
+
+    // Defaults for the injected instance, callers wanting other bounds use the three-argument constructor
+    private static final int DEFAULT_MAX_ENTRIES = 4096;
+    private static final long DEFAULT_MAX_FRAMES = 4096L * 200L;
+
+    private final PlinkoSimulator simulator;
+    private final int maxEntries;
+    private final long maxFrames;
+
+    // Access ordered, guarded by this
+    private final LinkedHashMap<OutcomeKey, PlinkoAnimation> entries = new LinkedHashMap<>(256, 0.75F, true);
+    private long storedFrames;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Inject
+    public PlinkoOutcomeCache(@NotNull final PlinkoSimulator simulator) {
+        this(simulator, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_FRAMES);
+    }
+
+    public PlinkoOutcomeCache(
+        @NotNull final PlinkoSimulator simulator,
+        int maxEntries,
+        long maxFrames
+    ) {
+        this.simulator = simulator;
+        this.maxEntries = maxEntries;
+        this.maxFrames = maxFrames;
+    }
+
+    /**
+     * Returns the cached animation for this drop or simulates and caches it
+     * <p>
+     * On a miss the object's start state is snapped to the quantized key before simulating
+     */
+    public PlinkoAnimation simulate(
+        @NotNull PlinkoRunContext ctx,
+        @NotNull PlinkoObject object,
+        @NotNull SpatialHashGrid obstacles
+    ) {
+        OutcomeKey key = OutcomeKey.of(obstacles.fingerprint(), ctx.config(), object);
+
+        PlinkoAnimation cached = get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        OutcomeKey.snap(object);
+        PlinkoAnimation animation = simulator.simulate(object, obstacles);
+        put(key, animation);
+        return animation;
+    }
+
+    /**
+     * Same as {@link #simulate(PlinkoRunContext, PlinkoObject, SpatialHashGrid)} on a compiled
+     * board, keyed by its content hash so slot changes don't serve stale outcomes
+     */
+    public PlinkoAnimation simulate(
+        @NotNull PlinkoRunContext ctx,
+        @NotNull PlinkoObject object,
+        @NotNull PlinkoBoard board
+    ) {
+        OutcomeKey key = OutcomeKey.of(board.contentHash(), ctx.config(), object);
+
+        PlinkoAnimation cached = get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        OutcomeKey.snap(object);
+        PlinkoAnimation animation = simulator.simulate(object, board);
+        put(key, animation);
+        return animation;
+    }
+
+    public synchronized PlinkoAnimation get(@NotNull OutcomeKey key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(@NotNull OutcomeKey key, @NotNull PlinkoAnimation animation) {
+        PlinkoAnimation previous = entries.put(key, animation);
+        if (previous != null) storedFrames -= previous.track().size();
+        storedFrames += animation.track().size();
+
+        Iterator<Map.Entry<OutcomeKey, PlinkoAnimation>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || storedFrames > maxFrames) && eldest.hasNext()) {
+            Map.Entry<OutcomeKey, PlinkoAnimation> entry = eldest.next();
+            if (entry.getKey().equals(key)) continue; // never evict what was just added
+            storedFrames -= entry.getValue().track().size();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Drops every entry recorded for the given board
+     */
+    public synchronized void invalidate(long boardFingerprint) {
+        Iterator<Map.Entry<OutcomeKey, PlinkoAnimation>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<OutcomeKey, PlinkoAnimation> entry = it.next();
+            if (entry.getKey().board() == boardFingerprint) {
+                storedFrames -= entry.getValue().track().size();
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        storedFrames = 0;
+    }
+
+    public synchronized @NotNull OutcomeCacheStats stats() {
+        return new OutcomeCacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), storedFrames);
+    }
+
+    @Override
+    public void onDisable() {
+        log.info("Outcome cache stats on disable: {}", stats());
+        clear();
+    }
+
+}
@@ -4,6 +4,7 @@ import com.glance.plinko.platform.paper.game.simulation.PlinkoRunContext;
 import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
 import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
 import com.glance.plinko.platform.paper.physics.shape.ShapeType;
+import com.glance.plinko.platform.paper.physics.shape.Sphere;
 import com.google.inject.Singleton;
 import org.jetbrains.annotations.NotNull;
 import org.joml.Matrix3f;
@@ -25,7 +26,8 @@ public final class DefaultPhysicsShapeFactory implements PhysicsShapeFactory {
 
         return switch (type) {
             case OBB -> new OrientedBox(center, halfSize, new Matrix3f());
-            case SPHERE -> throw new UnsupportedOperationException("SPHERE not yet implemented");
+            // Fit the largest display axis so the visual never pokes through what it collides with
+            case SPHERE -> new Sphere(center, Math.max(halfSize.x, Math.max(halfSize.y, halfSize.z)));
         };
     }
 
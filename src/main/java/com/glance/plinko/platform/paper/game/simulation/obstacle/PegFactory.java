@@ -2,6 +2,7 @@ package com.glance.plinko.platform.paper.game.simulation.obstacle;
 
 import com.glance.plinko.platform.paper.game.simulation.PlinkoObject;
 import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import com.glance.plinko.platform.paper.physics.shape.StaticObstacle;
 import org.bukkit.Location;
 import org.jetbrains.annotations.NotNull;
 import org.joml.Matrix3f;
@@ -10,15 +11,16 @@ import org.joml.Vector3f;
 
 public class PegFactory {
 
+    /**
+     * Peg as a full infinite-mass object, for inspect sessions that move it around
+     * <p>
+     * Simulations should use {@link #createObstacle(Location, float)} instead
+     */
     public static PlinkoObject createPeg(
         @NotNull Location loc,
         float scale
     ) {
-        Vector3f center = new Vector3f(
-            (float) loc.getX(),
-            (float) loc.getY(),
-            (float) loc.getZ()
-        );
+        Vector3f center = toVector(loc);
 
         Vector3f halfSize = new Vector3f(scale / 2F);
         Matrix3f rotationMat = new Matrix3f().rotateY((float) Math.toRadians(45));
@@ -33,9 +35,38 @@ public class PegFactory {
 
         peg.setPosition(center);
         peg.setScale(new Vector3f(scale));
-        peg.setRotation(new Quaternionf().rotateY((float) Math.toRadians(45)));
+        peg.setRotation(pegRotation());
 
         return peg;
     }
 
+    /**
+     * Same geometry as {@link #createPeg(Location, float)}'s current shape, precomputed once
+     * and without a body store behind it
+     */
+    public static StaticObstacle createObstacle(
+        @NotNull Location loc,
+        float scale
+    ) {
+        OrientedBox box = new OrientedBox(
+            toVector(loc),
+            new Vector3f(scale / 2F),
+            new Matrix3f().rotation(pegRotation()),
+            new Vector3f(scale)
+        );
+        return StaticObstacle.of(box);
+    }
+
+    private static Quaternionf pegRotation() {
+        return new Quaternionf().rotateY((float) Math.toRadians(45));
+    }
+
+    private static Vector3f toVector(@NotNull Location loc) {
+        return new Vector3f(
+            (float) loc.getX(),
+            (float) loc.getY(),
+            (float) loc.getZ()
+        );
+    }
+
 }
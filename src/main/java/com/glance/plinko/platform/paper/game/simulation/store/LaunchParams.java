@@ -0,0 +1,25 @@
+package com.glance.plinko.platform.paper.game.simulation.store;
+
+import com.glance.plinko.platform.paper.game.simulation.PlinkoObject;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Vector3f;
+
+/**
+ * Start state a stored outcome was simulated from
+ */
+public record LaunchParams(
+    Vector3f position,
+    Vector3f velocity,
+    Vector3f angularVelocity
+) {
+
+    /** Captures copies of the object's current start state, call before simulating */
+    public static @NotNull LaunchParams of(@NotNull PlinkoObject object) {
+        return new LaunchParams(
+            new Vector3f(object.getPosition()),
+            new Vector3f(object.getVelocity()),
+            new Vector3f(object.getAngularVelocity())
+        );
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.glance.plinko.platform.paper.game.simulation.store;
+
+import com.glance.plinko.platform.paper.animation.KeyframeTrack;
+import com.glance.plinko.platform.paper.animation.QuantizedKeyframeTrack;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link KeyframeTrack} view over one entry of a mapped outcome table
+ * <p>
+ * Frames are decoded on read with absolute gets, nothing is copied onto the heap
+ */
+final class MappedKeyframeTrack implements KeyframeTrack {
+
+    private final ByteBuffer buffer;
+    private final int framesOffset;
+    private final int size;
+    private final float originX, originY, originZ;
+    private final float step;
+    private final float scaleX, scaleY, scaleZ;
+
+    MappedKeyframeTrack(@NotNull ByteBuffer buffer, int entryOffset) {
+        this.buffer = buffer;
+        this.framesOffset = entryOffset + OutcomeTableFormat.ENTRY_HEADER_BYTES;
+        this.size = buffer.getInt(entryOffset + OutcomeTableFormat.ENTRY_FRAME_COUNT);
+
+        int origin = entryOffset + OutcomeTableFormat.ENTRY_ORIGIN;
+        this.originX = buffer.getFloat(origin);
+        this.originY = buffer.getFloat(origin + 4);
+        this.originZ = buffer.getFloat(origin + 8);
+        this.step = buffer.getFloat(entryOffset + OutcomeTableFormat.ENTRY_STEP);
+
+        int scale = entryOffset + OutcomeTableFormat.ENTRY_SCALE;
+        this.scaleX = buffer.getFloat(scale);
+        this.scaleY = buffer.getFloat(scale + 4);
+        this.scaleZ = buffer.getFloat(scale + 8);
+    }
+
+    private int frameOffset(int frame) {
+        return framesOffset + frame * OutcomeTableFormat.FRAME_BYTES;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @NotNull Vector3f position(int frame, @NotNull Vector3f dest) {
+        int o = frameOffset(frame) + 2;
+        return dest.set(
+            originX + buffer.getShort(o) * step,
+            originY + buffer.getShort(o + 2) * step,
+            originZ + buffer.getShort(o + 4) * step
+        );
+    }
+
+    @Override
+    public @NotNull Quaternionf rotation(int frame, @NotNull Quaternionf dest) {
+        int o = frameOffset(frame) + 8;
+        float s = QuantizedKeyframeTrack.ROTATION_SCALE;
+        return dest.set(
+            buffer.getShort(o) / s,
+            buffer.getShort(o + 2) / s,
+            buffer.getShort(o + 4) / s,
+            buffer.getShort(o + 6) / s
+        ).normalize();
+    }
+
+    @Override
+    public @NotNull Vector3f scale(int frame, @NotNull Vector3f dest) {
+        return dest.set(scaleX, scaleY, scaleZ);
+    }
+
+    @Override
+    public boolean collision(int frame) {
+        return (buffer.get(frameOffset(frame) + 16) & OutcomeTableFormat.FLAG_COLLISION) != 0;
+    }
+
+    @Override
+    public int tick(int frame) {
+        return buffer.getShort(frameOffset(frame));
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.glance.plinko.platform.paper.game.simulation.store;
+
+import com.glance.plinko.platform.paper.animation.PlinkoAnimation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3f;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only, memory-mapped outcome table for a single board
+ * <p>
+ * Only entry offsets are indexed on the heap, keyframes stay in the mapping
+ * and are decoded on demand by {@link MappedKeyframeTrack}
+ */
+public final class OutcomeTable {
+
+    private static final int[] NONE = new int[0];
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final long boardFingerprint;
+    private final int[] entryOffsets;
+    private final int[] entryLengths;
+    private final Map<Integer, int[]> entriesBySlot;
+
+    private OutcomeTable(
+        @NotNull Path path,
+        @NotNull MappedByteBuffer buffer,
+        long boardFingerprint,
+        int[] entryOffsets,
+        int[] entryLengths,
+        @NotNull Map<Integer, int[]> entriesBySlot
+    ) {
+        this.path = path;
+        this.buffer = buffer;
+        this.boardFingerprint = boardFingerprint;
+        this.entryOffsets = entryOffsets;
+        this.entryLengths = entryLengths;
+        this.entriesBySlot = entriesBySlot;
+    }
+
+    /**
+     * Maps a table file and indexes its entries by final slot
+     *
+     * @throws IOException if the file cannot be mapped or is not a valid table
+     */
+    public static @NotNull OutcomeTable open(@NotNull Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) throw new IOException("Outcome table too large: " + path);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.capacity() < OutcomeTableFormat.HEADER_BYTES
+                || buffer.getInt(0) != OutcomeTableFormat.MAGIC) {
+            throw new IOException("Not an outcome table: " + path);
+        }
+        int version = buffer.getInt(4);
+        if (version != OutcomeTableFormat.VERSION) {
+            throw new IOException("Unsupported outcome table version " + version + ": " + path);
+        }
+
+        long fingerprint = buffer.getLong(8);
+        int count = buffer.getInt(16);
+
+        // Every entry needs at least its header, a corrupt count must not size the arrays
+        int capacity = buffer.capacity();
+        if (count < 0 || count > (capacity - OutcomeTableFormat.HEADER_BYTES) / OutcomeTableFormat.ENTRY_HEADER_BYTES) {
+            throw new IOException("Corrupt outcome table entry count " + count + ": " + path);
+        }
+
+        int[] offsets = new int[count];
+        int[] lengths = new int[count];
+        Map<Integer, int[]> bySlot = new HashMap<>();
+        Map<Integer, Integer> slotSizes = new HashMap<>();
+
+        int offset = OutcomeTableFormat.HEADER_BYTES;
+        for (int i = 0; i < count; i++) {
+            if (capacity - offset < OutcomeTableFormat.ENTRY_HEADER_BYTES) {
+                throw new IOException("Truncated outcome table: " + path);
+            }
+            // Bounded by division, a corrupt frame count would overflow entryBytes and wrap past the check
+            int frames = buffer.getInt(offset + OutcomeTableFormat.ENTRY_FRAME_COUNT);
+            if (frames < 0 || frames > (capacity - offset - OutcomeTableFormat.ENTRY_HEADER_BYTES) / OutcomeTableFormat.FRAME_BYTES) {
+                throw new IOException("Truncated outcome table: " + path);
+            }
+            int length = OutcomeTableFormat.entryBytes(frames);
+
+            offsets[i] = offset;
+            lengths[i] = length;
+
+            int slot = buffer.getInt(offset + OutcomeTableFormat.ENTRY_SLOT);
+            int n = slotSizes.merge(slot, 1, Integer::sum);
+            int[] bucket = bySlot.computeIfAbsent(slot, s -> new int[4]);
+            if (n > bucket.length) bySlot.put(slot, bucket = Arrays.copyOf(bucket, bucket.length * 2));
+            bucket[n - 1] = i;
+
+            offset += length;
+        }
+        slotSizes.forEach((slot, n) -> bySlot.computeIfPresent(slot, (s, bucket) -> Arrays.copyOf(bucket, n)));
+
+        return new OutcomeTable(path, buffer, fingerprint, offsets, lengths, bySlot);
+    }
+
+    public @NotNull Path path() {
+        return path;
+    }
+
+    public long boardFingerprint() {
+        return boardFingerprint;
+    }
+
+    public int size() {
+        return entryOffsets.length;
+    }
+
+    /** @return how many stored outcomes land in the given slot */
+    public int count(int slot) {
+        return entriesBySlot.getOrDefault(slot, NONE).length;
+    }
+
+    /**
+     * @return the {@code i}th stored outcome landing in {@code slot}, or null if out of range
+     */
+    public @Nullable PlinkoAnimation get(int slot, int i) {
+        int[] bucket = entriesBySlot.getOrDefault(slot, NONE);
+        if (i < 0 || i >= bucket.length) return null;
+        return animation(bucket[i]);
+    }
+
+    /** @return the stored outcome at table index {@code entry} */
+    public @NotNull PlinkoAnimation animation(int entry) {
+        int offset = entryOffsets[entry];
+        int slot = buffer.getInt(offset + OutcomeTableFormat.ENTRY_SLOT);
+        return new PlinkoAnimation(
+            new UUID(boardFingerprint, entry),
+            new MappedKeyframeTrack(buffer, offset),
+            slot
+        );
+    }
+
+    public @NotNull LaunchParams launch(int entry) {
+        int launch = entryOffsets[entry] + OutcomeTableFormat.ENTRY_LAUNCH;
+        return new LaunchParams(
+            OutcomeTableFormat.getVec(buffer, launch, new Vector3f()),
+            OutcomeTableFormat.getVec(buffer, launch + 12, new Vector3f()),
+            OutcomeTableFormat.getVec(buffer, launch + 24, new Vector3f())
+        );
+    }
+
+    /** Copies the raw bytes of one entry into {@code out}, used when rewriting the table */
+    void copyEntry(int entry, @NotNull ByteBuffer out) {
+        out.put(buffer.slice(entryOffsets[entry], entryLengths[entry]));
+    }
+
+    int entryLength(int entry) {
+        return entryLengths[entry];
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.glance.plinko.platform.paper.game.simulation.store;
+
+import com.glance.plinko.platform.paper.animation.KeyframeTrack;
+import com.glance.plinko.platform.paper.animation.QuantizedKeyframeTrack;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary layout of a per-board outcome table
+ * <pre>
+ * header: magic(int) version(int) boardFingerprint(long) entryCount(int)
+ * entry:  finalSlot(int) launchPos(3f) launchVel(3f) launchAng(3f) frameCount(int)
+ *         origin(3f) step(f) scale(3f) frames...
+ * frame:  tick(short) pos(3s) rot(4s) flags(byte)
+ * </pre>
+ * Positions are quantized relative to the launch position, rotations as in
+ * {@link QuantizedKeyframeTrack}. Scale is constant per entry, as the simulator never changes it
+ */
+@UtilityClass
+public class OutcomeTableFormat {
+
+    public final int MAGIC = 0x504C4B4F; // "PLKO"
+    public final int VERSION = 1;
+
+    public final int HEADER_BYTES = 4 + 4 + 8 + 4;
+    public final int ENTRY_HEADER_BYTES = 4 + 9 * 4 + 4 + 3 * 4 + 4 + 3 * 4;
+    public final int FRAME_BYTES = 2 + 3 * 2 + 4 * 2 + 1;
+
+    public final int ENTRY_SLOT = 0;
+    public final int ENTRY_LAUNCH = 4;
+    public final int ENTRY_FRAME_COUNT = ENTRY_LAUNCH + 9 * 4;
+    public final int ENTRY_ORIGIN = ENTRY_FRAME_COUNT + 4;
+    public final int ENTRY_STEP = ENTRY_ORIGIN + 3 * 4;
+    public final int ENTRY_SCALE = ENTRY_STEP + 4;
+
+    public final byte FLAG_COLLISION = 1;
+
+    public int entryBytes(int frames) {
+        return ENTRY_HEADER_BYTES + frames * FRAME_BYTES;
+    }
+
+    public void writeHeader(@NotNull ByteBuffer out, long boardFingerprint, int entryCount) {
+        out.putInt(MAGIC);
+        out.putInt(VERSION);
+        out.putLong(boardFingerprint);
+        out.putInt(entryCount);
+    }
+
+    /**
+     * Checks that a track fits this format, {@link #writeEntry} would fail on it otherwise
+     *
+     * @throws IllegalArgumentException if the track changes scale or spans more ticks than fit a short
+     */
+    public void checkStorable(@NotNull KeyframeTrack track) {
+        int frames = track.size();
+        if (frames == 0) return;
+        if (track.tick(frames - 1) > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Track spans too many ticks to store: " + track.tick(frames - 1));
+        }
+
+        Vector3f scale = track.scale(0, new Vector3f());
+        Vector3f frameScale = new Vector3f();
+        for (int f = 1; f < frames; f++) {
+            if (!track.scale(f, frameScale).equals(scale)) {
+                throw new IllegalArgumentException("Outcome tables require a constant scale, frame " + f + " differs");
+            }
+        }
+    }
+
+    /**
+     * Encodes one outcome at the buffer's position
+     *
+     * @throws IllegalArgumentException if the track is not {@link #checkStorable storable}
+     */
+    public void writeEntry(
+        @NotNull ByteBuffer out,
+        int finalSlot,
+        @NotNull LaunchParams launch,
+        @NotNull KeyframeTrack track
+    ) {
+        checkStorable(track);
+        int frames = track.size();
+
+        Vector3f origin = launch.position();
+        float step = QuantizedKeyframeTrack.stepFor(track, origin);
+        float invStep = 1f / step;
+
+        Vector3f scale = frames > 0 ? track.scale(0, new Vector3f()) : new Vector3f(1F);
+
+        out.putInt(finalSlot);
+        putVec(out, launch.position());
+        putVec(out, launch.velocity());
+        putVec(out, launch.angularVelocity());
+        out.putInt(frames);
+        putVec(out, origin);
+        out.putFloat(step);
+        putVec(out, scale);
+
+        Vector3f pos = new Vector3f();
+        Quaternionf rot = new Quaternionf();
+        for (int f = 0; f < frames; f++) {
+            out.putShort((short) track.tick(f));
+
+            track.position(f, pos).sub(origin).mul(invStep);
+            out.putShort(QuantizedKeyframeTrack.quantize(pos.x));
+            out.putShort(QuantizedKeyframeTrack.quantize(pos.y));
+            out.putShort(QuantizedKeyframeTrack.quantize(pos.z));
+
+            track.rotation(f, rot).normalize();
+            out.putShort(QuantizedKeyframeTrack.quantize(rot.x * QuantizedKeyframeTrack.ROTATION_SCALE));
+            out.putShort(QuantizedKeyframeTrack.quantize(rot.y * QuantizedKeyframeTrack.ROTATION_SCALE));
+            out.putShort(QuantizedKeyframeTrack.quantize(rot.z * QuantizedKeyframeTrack.ROTATION_SCALE));
+            out.putShort(QuantizedKeyframeTrack.quantize(rot.w * QuantizedKeyframeTrack.ROTATION_SCALE));
+
+            out.put(track.collision(f) ? FLAG_COLLISION : 0);
+        }
+    }
+
+    public @NotNull Vector3f getVec(@NotNull ByteBuffer in, int index, @NotNull Vector3f dest) {
+        return dest.set(in.getFloat(index), in.getFloat(index + 4), in.getFloat(index + 8));
+    }
+
+    private void putVec(@NotNull ByteBuffer out, @NotNull Vector3f v) {
+        out.putFloat(v.x);
+        out.putFloat(v.y);
+        out.putFloat(v.z);
+    }
+
+}
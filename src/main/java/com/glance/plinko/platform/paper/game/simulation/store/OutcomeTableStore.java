@@ -0,0 +1,203 @@
+package com.glance.plinko.platform.paper.game.simulation.store;
+
+import com.glance.plinko.platform.paper.animation.KeyframeTrack;
+import com.glance.plinko.platform.paper.animation.PlinkoAnimation;
+import com.glance.plinko.utils.lifecycle.Manager;
+import com.google.auto.service.AutoService;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persists precomputed outcomes per board and maps them back in on startup
+ * <p>
+ * Tables live under {@code <data folder>/outcomes/<fingerprint>.plko}. New outcomes
+ * are buffered in memory and merged into the table file on {@link #flush()}, which
+ * also runs on disable, or once a board has {@value #FLUSH_THRESHOLD} outcomes buffered
+ */
+@Slf4j
+@Singleton
+@AutoService(Manager.class)
+public class OutcomeTableStore implements Manager {
+
+    private static final String DIRECTORY = "outcomes";
+    private static final String EXTENSION = ".plko";
+    // Buffered outcomes per board before record() writes them out itself
+    static final int FLUSH_THRESHOLD = 4096;
+
+    private final Plugin plugin;
+    private final Map<Long, OutcomeTable> tables = new ConcurrentHashMap<>();
+    private final Map<Long, List<PendingOutcome>> pending = new ConcurrentHashMap<>();
+
+    private record PendingOutcome(int finalSlot, LaunchParams launch, KeyframeTrack track) {}
+
+    @Inject
+    public OutcomeTableStore(@NotNull final Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void onEnable() {
+        loadAll();
+    }
+
+    @Override
+    public void onDisable() {
+        flush();
+        tables.clear();
+    }
+
+    @Override
+    public void reload() {
+        flush();
+        tables.clear();
+        loadAll();
+    }
+
+    /** @return the mapped table for a board, or null if nothing has been stored for it */
+    public @Nullable OutcomeTable table(long boardFingerprint) {
+        return tables.get(boardFingerprint);
+    }
+
+    /**
+     * Buffers an outcome for the board, written out on the next {@link #flush()}
+     * <p>
+     * Outcomes the table format can't hold are logged and skipped here, so they never
+     * hold up the rest of the board's outcomes. Reaching {@value #FLUSH_THRESHOLD} buffered
+     * outcomes flushes the board on the calling thread, so call it off the main thread
+     */
+    public void record(
+        long boardFingerprint,
+        @NotNull LaunchParams launch,
+        @NotNull PlinkoAnimation animation
+    ) {
+        try {
+            OutcomeTableFormat.checkStorable(animation.track());
+        } catch (IllegalArgumentException e) {
+            log.warn("Skipping unstorable outcome for board {}: {}", Long.toHexString(boardFingerprint), e.getMessage());
+            return;
+        }
+
+        PendingOutcome outcome = new PendingOutcome(animation.finalSlot(), launch, animation.track());
+        List<PendingOutcome> buffered = pending.compute(boardFingerprint, (b, list) -> {
+            if (list == null) list = new ArrayList<>();
+            list.add(outcome);
+            return list;
+        });
+        // Only on each multiple, so a failing disk isn't retried on every record
+        if (buffered.size() % FLUSH_THRESHOLD == 0) flush(boardFingerprint);
+    }
+
+    /**
+     * Merges every buffered outcome into its board's table file and remaps it
+     */
+    public synchronized void flush() {
+        for (Long board : List.copyOf(pending.keySet())) flush(board);
+    }
+
+    private synchronized void flush(long board) {
+        List<PendingOutcome> outcomes = pending.remove(board);
+        if (outcomes == null || outcomes.isEmpty()) return;
+
+        try {
+            OutcomeTable written = write(board, tables.get(board), outcomes);
+            tables.put(board, written);
+            log.info("Stored {} outcomes for board {} ({} total)",
+                    outcomes.size(), Long.toHexString(board), written.size());
+        } catch (IOException e) {
+            // Keep them buffered for the next flush
+            pending.merge(board, outcomes, (current, failed) -> {
+                current.addAll(failed);
+                return current;
+            });
+            log.error("Failed to write outcome table for board {}", Long.toHexString(board), e);
+        }
+    }
+
+    private void loadAll() {
+        Path dir = directory();
+        if (!Files.isDirectory(dir)) return;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + EXTENSION)) {
+            for (Path file : files) {
+                try {
+                    OutcomeTable table = OutcomeTable.open(file);
+                    tables.put(table.boardFingerprint(), table);
+                } catch (IOException | RuntimeException e) {
+                    log.error("Skipping unreadable outcome table {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to list outcome tables in {}", dir, e);
+        }
+        log.info("Mapped {} outcome tables", tables.size());
+    }
+
+    private @NotNull OutcomeTable write(
+        long board,
+        @Nullable OutcomeTable existing,
+        @NotNull List<PendingOutcome> outcomes
+    ) throws IOException {
+        Path dir = directory();
+        Files.createDirectories(dir);
+        Path target = dir.resolve(Long.toHexString(board) + EXTENSION);
+        Path temp = dir.resolve(Long.toHexString(board) + EXTENSION + ".tmp");
+
+        int existingCount = existing == null ? 0 : existing.size();
+        long bytes = OutcomeTableFormat.HEADER_BYTES;
+        for (int i = 0; i < existingCount; i++) bytes += existing.entryLength(i);
+        for (PendingOutcome outcome : outcomes) bytes += OutcomeTableFormat.entryBytes(outcome.track().size());
+        if (bytes > Integer.MAX_VALUE) throw new IOException("Outcome table would exceed 2GB for board " + board);
+
+        boolean moved = false;
+        try {
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+
+                OutcomeTableFormat.writeHeader(out, board, existingCount + outcomes.size());
+                for (int i = 0; i < existingCount; i++) existing.copyEntry(i, out);
+                for (PendingOutcome outcome : outcomes) {
+                    OutcomeTableFormat.writeEntry(out, outcome.finalSlot(), outcome.launch(), outcome.track());
+                }
+                out.force();
+            }
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            moved = true;
+        } finally {
+            if (!moved) deleteQuietly(temp);
+        }
+        return OutcomeTable.open(target);
+    }
+
+    private void deleteQuietly(@NotNull Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete partial outcome table {}", file, e);
+        }
+    }
+
+    private @NotNull Path directory() {
+        return plugin.getDataFolder().toPath().resolve(DIRECTORY);
+    }
+
+}
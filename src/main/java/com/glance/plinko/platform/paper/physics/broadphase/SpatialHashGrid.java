@@ -0,0 +1,340 @@
+package com.glance.plinko.platform.paper.physics.broadphase;
+
+import com.glance.plinko.platform.paper.physics.collision.batch.ObstacleLanes;
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
+import com.glance.plinko.platform.paper.physics.shape.StaticObstacle;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix3f;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform spatial hash over a fixed set of static shapes (pegs, walls)
+ * <p>
+ * Built once from each shape's world AABB and immutable afterwards, so a single grid
+ * can be shared between simulations. Each shape is also kept as a {@link StaticObstacle}
+ * with its geometry precomputed, in a packed array indexed like the shape list.
+ * Per-query scratch state lives in {@link Query}
+ */
+public final class SpatialHashGrid {
+
+    // Cell edge length as a multiple of the largest shape AABB extent
+    private static final float CELL_SIZE_FACTOR = 1.0F;
+    private static final float MIN_CELL_SIZE = 0.05F;
+
+    private static final int CELL_BITS = 21;
+    private static final long CELL_MASK = (1L << CELL_BITS) - 1;
+
+    private final List<PhysicsShape> shapes;
+    private final StaticObstacle[] obstacles;
+    private final ObstacleLanes lanes;
+
+    // Per-shape world AABB, 6 floats each: minX, minY, minZ, maxX, maxY, maxZ
+    private final float[] bounds;
+
+    private final float cellSize;
+    private final float invCellSize;
+    private final float lowestY;
+    private final float smallestExtent;
+    private final long fingerprint;
+
+    // Open addressing cell table, each slot owns [start, start + count) in entries
+    private final long[] tableKeys;
+    private final int[] tableStart;
+    private final int[] tableCount;
+    private final int tableMask;
+    private final int[] entries;
+
+    public SpatialHashGrid(@NotNull List<PhysicsShape> shapes) {
+        this.shapes = List.copyOf(shapes);
+        this.obstacles = StaticObstacle.pack(this.shapes);
+        this.lanes = ObstacleLanes.of(obstacles);
+        this.bounds = new float[this.shapes.size() * 6];
+
+        float largest = 0F;
+        float lowest = Float.POSITIVE_INFINITY;
+        float smallest = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < obstacles.length; i++) {
+            StaticObstacle obstacle = obstacles[i];
+
+            int o = i * 6;
+            bounds[o]     = obstacle.minX;
+            bounds[o + 1] = obstacle.minY;
+            bounds[o + 2] = obstacle.minZ;
+            bounds[o + 3] = obstacle.maxX;
+            bounds[o + 4] = obstacle.maxY;
+            bounds[o + 5] = obstacle.maxZ;
+
+            largest = Math.max(largest, 2F * Math.max(obstacle.hx, Math.max(obstacle.hy, obstacle.hz)));
+            lowest = Math.min(lowest, bounds[o + 1]);
+            smallest = Math.min(smallest, obstacle.thickness());
+        }
+
+        this.lowestY = this.shapes.isEmpty() ? Float.NEGATIVE_INFINITY : lowest;
+        this.smallestExtent = smallest;
+        this.fingerprint = fingerprint(this.shapes);
+        this.cellSize = Math.max(MIN_CELL_SIZE, largest * CELL_SIZE_FACTOR);
+        this.invCellSize = 1F / cellSize;
+
+        int pairs = 0;
+        for (int i = 0; i < this.shapes.size(); i++) pairs += cellSpan(i);
+
+        int capacity = Integer.highestOneBit(Math.max(16, pairs * 2) - 1) << 1;
+        this.tableKeys = new long[capacity];
+        this.tableStart = new int[capacity];
+        this.tableCount = new int[capacity];
+        this.tableMask = capacity - 1;
+        this.entries = new int[pairs];
+
+        // Pass 1: count shapes per cell
+        for (int i = 0; i < this.shapes.size(); i++) {
+            int o = i * 6;
+            for (int cx = cell(bounds[o]); cx <= cell(bounds[o + 3]); cx++)
+                for (int cy = cell(bounds[o + 1]); cy <= cell(bounds[o + 4]); cy++)
+                    for (int cz = cell(bounds[o + 2]); cz <= cell(bounds[o + 5]); cz++)
+                        tableCount[insertSlot(key(cx, cy, cz))]++;
+        }
+
+        // Pass 2: prefix offsets
+        int offset = 0;
+        for (int s = 0; s < capacity; s++) {
+            tableStart[s] = offset;
+            offset += tableCount[s];
+        }
+
+        // Pass 3: fill, shapes go in ascending index order so each cell stays sorted
+        int[] cursor = Arrays.copyOf(tableStart, capacity);
+        for (int i = 0; i < this.shapes.size(); i++) {
+            int o = i * 6;
+            for (int cx = cell(bounds[o]); cx <= cell(bounds[o + 3]); cx++)
+                for (int cy = cell(bounds[o + 1]); cy <= cell(bounds[o + 4]); cy++)
+                    for (int cz = cell(bounds[o + 2]); cz <= cell(bounds[o + 5]); cz++)
+                        entries[cursor[findSlot(key(cx, cy, cz))]++] = i;
+        }
+    }
+
+    public int size() {
+        return shapes.size();
+    }
+
+    public float cellSize() {
+        return cellSize;
+    }
+
+    /**
+     * @return the bottom of the lowest shape's AABB, negative infinity for an empty grid
+     */
+    public float lowestY() {
+        return lowestY;
+    }
+
+    /**
+     * @return the thinnest full extent of any shape along its own axes, infinite for an empty grid
+     */
+    public float smallestExtent() {
+        return smallestExtent;
+    }
+
+    /**
+     * @return a content hash of every shape's geometry, stable across restarts and nodes
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    public @NotNull PhysicsShape shape(int index) {
+        return shapes.get(index);
+    }
+
+    /** @return the precomputed obstacle for the shape at {@code index} */
+    public @NotNull StaticObstacle obstacle(int index) {
+        return obstacles[index];
+    }
+
+    public @NotNull List<PhysicsShape> shapes() {
+        return shapes;
+    }
+
+    /** @return the box obstacles as SIMD-friendly arrays, indexed like {@link #shape(int)} */
+    public @NotNull ObstacleLanes lanes() {
+        return lanes;
+    }
+
+    /**
+     * Creates a new query cursor
+     * <p>
+     * Cursors hold mutable scratch state and must not be shared between threads
+     */
+    public @NotNull Query newQuery() {
+        return new Query();
+    }
+
+    private static long fingerprint(@NotNull List<PhysicsShape> shapes) {
+        long h = 0xCBF29CE484222325L;
+        Vector3f ext = new Vector3f();
+        for (PhysicsShape shape : shapes) {
+            h = mix(h, shape.getClass().getSimpleName().hashCode());
+            Vector3f c = shape.center();
+            h = mix(h, c.x, c.y, c.z);
+
+            if (shape instanceof OrientedBox box) {
+                Matrix3f r = box.rotation();
+                h = mix(h, r.m00(), r.m01(), r.m02());
+                h = mix(h, r.m10(), r.m11(), r.m12());
+                h = mix(h, r.m20(), r.m21(), r.m22());
+                h = mix(h, box.halfSize().x * box.scale().x,
+                        box.halfSize().y * box.scale().y,
+                        box.halfSize().z * box.scale().z);
+            } else {
+                shape.aabbHalfExtents(ext);
+                h = mix(h, ext.x, ext.y, ext.z);
+            }
+        }
+        return h;
+    }
+
+    private static long mix(long h, float x, float y, float z) {
+        h = mix(h, Float.floatToIntBits(x));
+        h = mix(h, Float.floatToIntBits(y));
+        return mix(h, Float.floatToIntBits(z));
+    }
+
+    private static long mix(long h, int v) {
+        h ^= v;
+        h *= 0x100000001B3L;
+        return h ^ (h >>> 29);
+    }
+
+    private int cellSpan(int shapeIdx) {
+        int o = shapeIdx * 6;
+        return (cell(bounds[o + 3]) - cell(bounds[o]) + 1)
+             * (cell(bounds[o + 4]) - cell(bounds[o + 1]) + 1)
+             * (cell(bounds[o + 5]) - cell(bounds[o + 2]) + 1);
+    }
+
+    private int cell(float v) {
+        return (int) Math.floor(v * invCellSize);
+    }
+
+    private static long key(int cx, int cy, int cz) {
+        return ((cx & CELL_MASK) << (CELL_BITS * 2)) | ((cy & CELL_MASK) << CELL_BITS) | (cz & CELL_MASK);
+    }
+
+    private int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & tableMask;
+    }
+
+    private int insertSlot(long key) {
+        int s = hash(key);
+        while (tableCount[s] != 0 && tableKeys[s] != key) s = (s + 1) & tableMask;
+        tableKeys[s] = key;
+        return s;
+    }
+
+    /** @return the slot holding key, or -1 if the cell is empty */
+    private int findSlot(long key) {
+        int s = hash(key);
+        while (tableCount[s] != 0) {
+            if (tableKeys[s] == key) return s;
+            s = (s + 1) & tableMask;
+        }
+        return -1;
+    }
+
+    /**
+     * Reusable, allocation-free query over the grid
+     */
+    public final class Query {
+        private final int[] marks = new int[shapes.size()];
+        private final int[] hits = new int[shapes.size()];
+        private int stamp;
+        private int count;
+
+        /**
+         * Collects shapes whose AABB overlaps the given box
+         * <p>
+         * Results are deduplicated and sorted by index, matching the original shape order
+         *
+         * @return the number of candidates, readable through {@link #get(int)}
+         */
+        public int query(
+            float minX, float minY, float minZ,
+            float maxX, float maxY, float maxZ
+        ) {
+            count = 0;
+            if (++stamp == 0) {
+                Arrays.fill(marks, 0);
+                stamp = 1;
+            }
+
+            int x0 = cell(minX), x1 = cell(maxX);
+            int y0 = cell(minY), y1 = cell(maxY);
+            int z0 = cell(minZ), z1 = cell(maxZ);
+
+            for (int cx = x0; cx <= x1; cx++) {
+                for (int cy = y0; cy <= y1; cy++) {
+                    for (int cz = z0; cz <= z1; cz++) {
+                        int slot = findSlot(key(cx, cy, cz));
+                        if (slot < 0) continue;
+
+                        int end = tableStart[slot] + tableCount[slot];
+                        for (int e = tableStart[slot]; e < end; e++) {
+                            int idx = entries[e];
+                            if (marks[idx] == stamp) continue;
+                            marks[idx] = stamp;
+
+                            int o = idx * 6;
+                            if (bounds[o] > maxX || bounds[o + 3] < minX) continue;
+                            if (bounds[o + 1] > maxY || bounds[o + 4] < minY) continue;
+                            if (bounds[o + 2] > maxZ || bounds[o + 5] < minZ) continue;
+                            hits[count++] = idx;
+                        }
+                    }
+                }
+            }
+
+            if (count > 1) Arrays.sort(hits, 0, count);
+            return count;
+        }
+
+        /**
+         * Queries with the box swept from {@code from} to {@code to}, padded by {@code halfExtents}
+         */
+        public int querySwept(
+            @NotNull Vector3f from,
+            @NotNull Vector3f to,
+            @NotNull Vector3f halfExtents
+        ) {
+            return query(
+                Math.min(from.x, to.x) - halfExtents.x,
+                Math.min(from.y, to.y) - halfExtents.y,
+                Math.min(from.z, to.z) - halfExtents.z,
+                Math.max(from.x, to.x) + halfExtents.x,
+                Math.max(from.y, to.y) + halfExtents.y,
+                Math.max(from.z, to.z) + halfExtents.z
+            );
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public int index(int i) {
+            return hits[i];
+        }
+
+        /** @return the backing index array, valid up to {@link #count()} until the next query */
+        public int[] indices() {
+            return hits;
+        }
+
+        public @NotNull PhysicsShape get(int i) {
+            return shapes.get(hits[i]);
+        }
+    }
+
+}
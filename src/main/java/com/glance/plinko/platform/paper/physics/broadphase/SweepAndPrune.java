@@ -0,0 +1,144 @@
+package com.glance.plinko.platform.paper.physics.broadphase;
+
+import org.jetbrains.annotations.NotNull;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+
+/**
+ * Sort-and-sweep broadphase for moving bodies, sorted along the drop (Y) axis
+ * <p>
+ * The sort order is kept between ticks, bodies barely move relative to each other per
+ * tick so an insertion sort over the previous order is close to linear. The overlapping
+ * pair list of the previous tick is cached too, which lets callers tell new contacts
+ * from persisting ones via {@link #isNew(int)}
+ * <p>
+ * Not thread-safe, one instance per world
+ */
+public final class SweepAndPrune {
+
+    private final int capacity;
+    private int size;
+
+    // Per-body AABB, 6 floats each: minX, minY, minZ, maxX, maxY, maxZ
+    private final float[] bounds;
+    private final boolean[] active;
+    private final int[] order;
+
+    // Pairs packed as (low id << 32 | high id), sorted after each update
+    private long[] pairs = new long[64];
+    private int pairCount;
+    private long[] previous = new long[64];
+    private int previousCount;
+
+    public SweepAndPrune(int capacity) {
+        this.capacity = capacity;
+        this.bounds = new float[capacity * 6];
+        this.active = new boolean[capacity];
+        this.order = new int[capacity];
+    }
+
+    /**
+     * Registers the next body id, ids are expected to be dense and ascending from 0
+     */
+    public void add(int id) {
+        if (id != size || size == capacity) throw new IllegalArgumentException("Expected body id " + size);
+        order[size++] = id;
+        active[id] = true;
+    }
+
+    /** Inactive bodies keep their place in the order but are never paired */
+    public void setActive(int id, boolean active) {
+        this.active[id] = active;
+    }
+
+    public void setBounds(
+        int id,
+        @NotNull Vector3f center,
+        @NotNull Vector3f halfExtents
+    ) {
+        int o = id * 6;
+        bounds[o]     = center.x - halfExtents.x;
+        bounds[o + 1] = center.y - halfExtents.y;
+        bounds[o + 2] = center.z - halfExtents.z;
+        bounds[o + 3] = center.x + halfExtents.x;
+        bounds[o + 4] = center.y + halfExtents.y;
+        bounds[o + 5] = center.z + halfExtents.z;
+    }
+
+    /**
+     * Re-sorts and sweeps, collecting every overlapping pair of active bodies
+     *
+     * @return the number of pairs, readable through {@link #pairA(int)} and {@link #pairB(int)}
+     */
+    public int update() {
+        sortByMinY();
+
+        long[] swap = previous;
+        previous = pairs;
+        previousCount = pairCount;
+        pairs = swap;
+        pairCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            int a = order[i];
+            if (!active[a]) continue;
+            int oa = a * 6;
+            float maxY = bounds[oa + 4];
+
+            for (int k = i + 1; k < size; k++) {
+                int b = order[k];
+                int ob = b * 6;
+                if (bounds[ob + 1] > maxY) break; // sorted, nothing further down can overlap
+                if (!active[b]) continue;
+
+                if (bounds[ob] > bounds[oa + 3] || bounds[ob + 3] < bounds[oa]) continue;
+                if (bounds[ob + 2] > bounds[oa + 5] || bounds[ob + 5] < bounds[oa + 2]) continue;
+                addPair(a, b);
+            }
+        }
+
+        if (pairCount > 1) Arrays.sort(pairs, 0, pairCount);
+        return pairCount;
+    }
+
+    public int pairCount() {
+        return pairCount;
+    }
+
+    /** @return the lower body id of pair i */
+    public int pairA(int i) {
+        return (int) (pairs[i] >>> 32);
+    }
+
+    /** @return the higher body id of pair i */
+    public int pairB(int i) {
+        return (int) pairs[i];
+    }
+
+    /** @return true if pair i did not overlap on the previous update */
+    public boolean isNew(int i) {
+        return Arrays.binarySearch(previous, 0, previousCount, pairs[i]) < 0;
+    }
+
+    private void addPair(int a, int b) {
+        if (pairCount == pairs.length) pairs = Arrays.copyOf(pairs, pairs.length * 2);
+        int lo = Math.min(a, b);
+        int hi = Math.max(a, b);
+        pairs[pairCount++] = ((long) lo << 32) | (hi & 0xFFFFFFFFL);
+    }
+
+    private void sortByMinY() {
+        for (int i = 1; i < size; i++) {
+            int id = order[i];
+            float key = bounds[id * 6 + 1];
+            int j = i - 1;
+            while (j >= 0 && bounds[order[j] * 6 + 1] > key) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = id;
+        }
+    }
+
+}
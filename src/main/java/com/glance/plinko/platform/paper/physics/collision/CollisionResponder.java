@@ -1,8 +1,10 @@
 package com.glance.plinko.platform.paper.physics.collision;
 
+import com.glance.plinko.platform.paper.config.SolverConfig;
 import com.glance.plinko.platform.paper.game.simulation.PlinkoObject;
 import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
 import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
+import com.glance.plinko.platform.paper.physics.shape.Sphere;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
@@ -14,12 +16,14 @@ import org.joml.Vector3f;
 @UtilityClass
 public class CollisionResponder {
 
+    /** Body id standing in for a static obstacle in {@link ContactSolver} */
+    public final int STATIC = -1;
+
     private final float EPS = 1e-6f;
 
-    private final float PENETRATION_SLOP = 0.001f;
-    private final float PENETRATION_CORRECT_PCT = 0.80f;
+    // Correction previews use the same slop and Baumgarte share the simulation solves with
+    private final SolverConfig SOLVER = SolverConfig.defaults();
 
-    private final float FRICTION_COEFF = 0.0f;
     private final float DEFAULT_TANGENTIAL_DAMP = 0.25f;
 
     public CollisionResponse planResponseLite(
@@ -42,8 +46,12 @@ public class CollisionResponder {
 
         Vector3f centroid = new Vector3f(result.centroid());        // contact point
         Vector3f contactPoint = centroid;
-        if (primary.currentShape() instanceof OrientedBox obb) {
+        PhysicsShape primaryShape = primary.currentShape();
+        if (primaryShape instanceof OrientedBox obb) {
             contactPoint = surfaceContactPoint(obb, centroid, contactNormal);
+        } else if (primaryShape instanceof Sphere sphere) {
+            // Normal points away from the other shape, the contact is on the opposite side
+            contactPoint = new Vector3f(sphere.center()).fma(-sphere.radius(), contactNormal);
         }
 
         Vector3f r = new Vector3f(contactPoint).sub(x); // lever arm
@@ -91,23 +99,13 @@ public class CollisionResponder {
             }
         }
 
-        float pen = Math.max(result.penetrationDepth() - PENETRATION_SLOP, 0f);
-        Vector3f correction = new Vector3f(contactNormal).mul(pen * PENETRATION_CORRECT_PCT);
+        float pen = Math.max(result.penetrationDepth() - SOLVER.slop(), 0f);
+        Vector3f correction = new Vector3f(contactNormal).mul(pen * SOLVER.baumgarte());
 
         return new CollisionResponse(contactNormal, r, normalImpulseMag, tangentImpulseMag,
                 dv, dw, correction, normalSpeed < 0f);
     }
 
-    public void apply(
-        @NotNull PlinkoObject object,
-        @NotNull CollisionResult result,
-        boolean debug
-    ) {
-        if (object.isImmovable()) return;
-
-        // TODO
-    }
-
     public @NotNull Vector3f surfaceContactPoint(
         @NotNull OrientedBox incomingObb,
         @NotNull Vector3f centroidWorld,
@@ -186,7 +184,7 @@ public class CollisionResponder {
     @Nullable
     private Vector3f tryGetCenter(@NotNull PhysicsShape shape) {
         if (shape instanceof OrientedBox obb) return new Vector3f(obb.center());
-        // add other shapes here as needed
+        if (shape instanceof Sphere sphere) return new Vector3f(sphere.center());
         return null;
     }
 
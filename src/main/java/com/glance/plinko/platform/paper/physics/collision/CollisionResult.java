@@ -21,11 +21,12 @@ public record CollisionResult(
 ) {
 
     public enum AxisType {
-        FACE_A, FACE_B, EDGE_CROSS
+        FACE_A, FACE_B, EDGE_CROSS,
+        CENTER_LINE // along the line between a sphere centre and its closest point
     }
 
     public enum ContactTopology {
-        FACE_FACE, EDGE_EDGE
+        FACE_FACE, EDGE_EDGE, POINT
     }
 
 }
@@ -0,0 +1,438 @@
+package com.glance.plinko.platform.paper.physics.collision;
+
+import com.glance.plinko.platform.paper.config.SolverConfig;
+import com.glance.plinko.platform.paper.game.simulation.ContactCache;
+import com.glance.plinko.platform.paper.game.simulation.RigidBodyStore;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Iterative sequential-impulse solver over every contact point of a tick
+ * <p>
+ * Contacts are collected with {@link #add}, then {@link #solve} warm-starts them from the
+ * {@link ContactCache}, runs the configured number of velocity passes (Coulomb friction
+ * clamped by the accumulated normal impulse, then the normal impulse clamped to push only)
+ * and finally removes penetration with split impulses: pseudo velocities that move bodies
+ * apart without adding energy to their real velocities
+ * <p>
+ * Each manifold contributes up to {@link ContactCache#POINTS_PER_SLOT} points. Constraint
+ * data lives in flat arrays that only grow, so a warmed-up solver does not allocate
+ * <p>
+ * Not thread-safe, one instance per simulation
+ */
+public final class ContactSolver {
+
+    public static final int MAX_POINTS = ContactCache.POINTS_PER_SLOT;
+
+    // Share of last tick's impulse re-applied up front
+    static final float WARM_START_FACTOR = 0.85F;
+    // Approach speed below which a contact is resting and doesn't bounce
+    static final float RESTING_SPEED = 0.05F;
+
+    private static final float EPS = 1e-6F;
+
+    private final SolverConfig config;
+    private final @Nullable ContactCache cache;
+
+    private int count;
+    private int capacity;
+
+    // Bodies per point, b is CollisionResponder.STATIC for obstacles
+    private int[] bodyA, bodyB;
+    private int[] cacheSlot, cachePoint;
+
+    // Normal, two tangents and lever arms, 3 floats each
+    private float[] normal, tangent1, tangent2, armA, armB;
+
+    private float[] invMassA, invMassB;
+    private float[] massNormal, massTangent1, massTangent2, massPosition;
+    private float[] friction, bounce, depth;
+
+    // Accumulated impulses, jp is the split (position) impulse
+    private float[] jn, jt1, jt2, jp;
+
+    // Pseudo velocities per body, only written during the position passes
+    private final float[] pvx, pvy, pvz;
+    private final boolean[] touched;
+    private final int[] touchedIds;
+    private int touchedCount;
+
+    public ContactSolver(
+        int bodies,
+        @NotNull SolverConfig config,
+        @Nullable ContactCache cache
+    ) {
+        this.config = config;
+        this.cache = cache;
+        this.pvx = new float[bodies];
+        this.pvy = new float[bodies];
+        this.pvz = new float[bodies];
+        this.touched = new boolean[bodies];
+        this.touchedIds = new int[bodies];
+        grow(16);
+    }
+
+    public @NotNull SolverConfig config() {
+        return config;
+    }
+
+    /** Drops every collected contact, call at the start of each tick */
+    public void clear() {
+        count = 0;
+    }
+
+    /** @return contact points collected since the last {@link #clear()} */
+    public int pointCount() {
+        return count;
+    }
+
+    /**
+     * Collects a manifold between bodies a and b
+     * <p>
+     * The result's normal must point from {@code a} to {@code b}, {@code b} may be
+     * {@link CollisionResponder#STATIC}. With a cache slot the points are warm-started from
+     * and written back to the solver's {@link ContactCache}
+     *
+     * @param depth penetration at the current pose
+     * @param slot the manifold's cache slot, or -1 if it isn't cached
+     */
+    public void add(
+        @NotNull RigidBodyStore bodies,
+        int a,
+        int b,
+        @NotNull CollisionResult result,
+        float depth,
+        int slot
+    ) {
+        boolean dynamicB = b != CollisionResponder.STATIC;
+        float imA = bodies.invMass[a];
+        float imB = dynamicB ? bodies.invMass[b] : 0F;
+        if (imA + imB <= 0F) return;
+
+        // A coefficient above 1 would add energy on every fast contact
+        float restitution = Math.min(1F, Math.max(0F, dynamicB
+            ? Math.min(bodies.bounciness[a], bodies.bounciness[b])
+            : bodies.bounciness[a]));
+        float mu = Math.max(0F, dynamicB
+            ? (float) Math.sqrt(bodies.friction[a] * bodies.friction[b])
+            : bodies.friction[a]);
+
+        Vector3f n = result.normal();
+        List<Vector3f> points = result.contactPoints();
+        int available = points.size();
+        int used = available == 0 ? 1 : Math.min(available, MAX_POINTS);
+        int stride = available <= MAX_POINTS ? 1 : available / MAX_POINTS;
+
+        for (int k = 0; k < used; k++) {
+            Vector3f c = available == 0 ? result.centroid() : points.get(k * stride);
+            if (count == capacity) grow(capacity * 2);
+            addPoint(bodies, count++, a, b, n, c, depth, mu, restitution, slot, k);
+        }
+    }
+
+    /**
+     * Solves every collected contact, updating velocities and pushing bodies out of penetration
+     */
+    public void solve(@NotNull RigidBodyStore bodies) {
+        if (count == 0) return;
+
+        for (int p = 0; p < count; p++) {
+            int i = p * 3;
+            float px = normal[i] * jn[p] + tangent1[i] * jt1[p] + tangent2[i] * jt2[p];
+            float py = normal[i + 1] * jn[p] + tangent1[i + 1] * jt1[p] + tangent2[i + 1] * jt2[p];
+            float pz = normal[i + 2] * jn[p] + tangent1[i + 2] * jt1[p] + tangent2[i + 2] * jt2[p];
+            if (px != 0F || py != 0F || pz != 0F) applyImpulse(bodies, p, px, py, pz);
+        }
+
+        for (int iteration = 0; iteration < config.velocityIterations(); iteration++) {
+            for (int p = 0; p < count; p++) solveVelocity(bodies, p);
+        }
+
+        for (int iteration = 0; iteration < config.positionIterations(); iteration++) {
+            for (int p = 0; p < count; p++) solvePosition(p);
+        }
+        applyPseudoVelocities(bodies);
+
+        if (cache != null) storeImpulses();
+    }
+
+    private void addPoint(
+        RigidBodyStore bodies,
+        int p,
+        int a,
+        int b,
+        Vector3f n,
+        Vector3f c,
+        float depth,
+        float mu,
+        float restitution,
+        int slot,
+        int point
+    ) {
+        boolean dynamicB = b != CollisionResponder.STATIC;
+        float imA = bodies.invMass[a], iiA = bodies.invInertia[a];
+        float imB = dynamicB ? bodies.invMass[b] : 0F;
+        float iiB = dynamicB ? bodies.invInertia[b] : 0F;
+
+        int i = p * 3;
+        bodyA[p] = a;
+        bodyB[p] = b;
+        normal[i] = n.x; normal[i + 1] = n.y; normal[i + 2] = n.z;
+
+        armA[i] = c.x - bodies.px[a]; armA[i + 1] = c.y - bodies.py[a]; armA[i + 2] = c.z - bodies.pz[a];
+        if (dynamicB) {
+            armB[i] = c.x - bodies.px[b]; armB[i + 1] = c.y - bodies.py[b]; armB[i + 2] = c.z - bodies.pz[b];
+        } else {
+            armB[i] = 0F; armB[i + 1] = 0F; armB[i + 2] = 0F;
+        }
+
+        // Any orthonormal basis of the contact plane will do
+        float t1x, t1y, t1z;
+        if (Math.abs(n.x) >= 0.57735F) {
+            t1x = n.y; t1y = -n.x; t1z = 0F;
+        } else {
+            t1x = 0F; t1y = n.z; t1z = -n.y;
+        }
+        float inv = 1F / (float) Math.sqrt(t1x * t1x + t1y * t1y + t1z * t1z);
+        t1x *= inv; t1y *= inv; t1z *= inv;
+        tangent1[i] = t1x; tangent1[i + 1] = t1y; tangent1[i + 2] = t1z;
+        tangent2[i] = n.y * t1z - n.z * t1y;
+        tangent2[i + 1] = n.z * t1x - n.x * t1z;
+        tangent2[i + 2] = n.x * t1y - n.y * t1x;
+
+        massNormal[p] = effectiveMass(p, imA + imB, iiA, iiB, normal);
+        massTangent1[p] = effectiveMass(p, imA + imB, iiA, iiB, tangent1);
+        massTangent2[p] = effectiveMass(p, imA + imB, iiA, iiB, tangent2);
+        massPosition[p] = 1F / (imA + imB);
+        invMassA[p] = imA;
+        invMassB[p] = imB;
+
+        friction[p] = mu;
+        this.depth[p] = depth;
+
+        float approach = relativeVelocity(bodies, p, normal);
+        bounce[p] = approach < -RESTING_SPEED ? -restitution * approach : 0F;
+
+        cacheSlot[p] = slot;
+        cachePoint[p] = point;
+        jp[p] = 0F;
+        if (cache != null && slot >= 0) {
+            float tx = cache.tangentImpulse(slot, point, 0);
+            float ty = cache.tangentImpulse(slot, point, 1);
+            float tz = cache.tangentImpulse(slot, point, 2);
+            jn[p] = cache.normalImpulse(slot, point) * WARM_START_FACTOR;
+            jt1[p] = (tx * t1x + ty * t1y + tz * t1z) * WARM_START_FACTOR;
+            jt2[p] = (tx * tangent2[i] + ty * tangent2[i + 1] + tz * tangent2[i + 2]) * WARM_START_FACTOR;
+        } else {
+            jn[p] = 0F;
+            jt1[p] = 0F;
+            jt2[p] = 0F;
+        }
+    }
+
+    private void solveVelocity(RigidBodyStore bodies, int p) {
+        int i = p * 3;
+
+        // Friction first, bounded by the normal impulse accumulated so far
+        float maxFriction = friction[p] * jn[p];
+
+        float dj = -relativeVelocity(bodies, p, tangent1) * massTangent1[p];
+        float old = jt1[p];
+        jt1[p] = clamp(old + dj, -maxFriction, maxFriction);
+        dj = jt1[p] - old;
+        if (dj != 0F) applyImpulse(bodies, p, tangent1[i] * dj, tangent1[i + 1] * dj, tangent1[i + 2] * dj);
+
+        dj = -relativeVelocity(bodies, p, tangent2) * massTangent2[p];
+        old = jt2[p];
+        jt2[p] = clamp(old + dj, -maxFriction, maxFriction);
+        dj = jt2[p] - old;
+        if (dj != 0F) applyImpulse(bodies, p, tangent2[i] * dj, tangent2[i + 1] * dj, tangent2[i + 2] * dj);
+
+        // Normal, towards the bounce velocity and never pulling
+        dj = (bounce[p] - relativeVelocity(bodies, p, normal)) * massNormal[p];
+        old = jn[p];
+        jn[p] = Math.max(old + dj, 0F);
+        dj = jn[p] - old;
+        if (dj != 0F) applyImpulse(bodies, p, normal[i] * dj, normal[i + 1] * dj, normal[i + 2] * dj);
+    }
+
+    private void solvePosition(int p) {
+        int i = p * 3;
+        int a = bodyA[p], b = bodyB[p];
+        float nx = normal[i], ny = normal[i + 1], nz = normal[i + 2];
+
+        float separating = -(pvx[a] * nx + pvy[a] * ny + pvz[a] * nz);
+        if (b != CollisionResponder.STATIC) separating += pvx[b] * nx + pvy[b] * ny + pvz[b] * nz;
+
+        float target = config.baumgarte() * Math.max(depth[p] - config.slop(), 0F);
+        float dj = (target - separating) * massPosition[p];
+        float old = jp[p];
+        jp[p] = Math.max(old + dj, 0F);
+        dj = jp[p] - old;
+        if (dj == 0F) return;
+
+        // Linear only, each side moves by its inverse mass
+        float imA = invMassA[p];
+        touch(a);
+        pvx[a] -= nx * dj * imA; pvy[a] -= ny * dj * imA; pvz[a] -= nz * dj * imA;
+        if (b != CollisionResponder.STATIC) {
+            float imB = invMassB[p];
+            touch(b);
+            pvx[b] += nx * dj * imB; pvy[b] += ny * dj * imB; pvz[b] += nz * dj * imB;
+        }
+    }
+
+    private void applyPseudoVelocities(RigidBodyStore bodies) {
+        for (int t = 0; t < touchedCount; t++) {
+            int id = touchedIds[t];
+            bodies.px[id] += pvx[id];
+            bodies.py[id] += pvy[id];
+            bodies.pz[id] += pvz[id];
+            pvx[id] = 0F; pvy[id] = 0F; pvz[id] = 0F;
+            touched[id] = false;
+        }
+        touchedCount = 0;
+    }
+
+    private void touch(int id) {
+        if (touched[id]) return;
+        touched[id] = true;
+        touchedIds[touchedCount++] = id;
+    }
+
+    private void storeImpulses() {
+        for (int p = 0; p < count; p++) {
+            int slot = cacheSlot[p];
+            if (slot < 0) continue;
+
+            int i = p * 3;
+            cache.setNormalImpulse(slot, cachePoint[p], jn[p]);
+            cache.setTangentImpulse(slot, cachePoint[p],
+                tangent1[i] * jt1[p] + tangent2[i] * jt2[p],
+                tangent1[i + 1] * jt1[p] + tangent2[i + 1] * jt2[p],
+                tangent1[i + 2] * jt1[p] + tangent2[i + 2] * jt2[p]);
+        }
+    }
+
+    /** Velocity of B relative to A at point p, along one of its 3-float directions */
+    private float relativeVelocity(
+        RigidBodyStore bodies,
+        int p,
+        float[] direction
+    ) {
+        int i = p * 3;
+        int a = bodyA[p], b = bodyB[p];
+        float rx = armA[i], ry = armA[i + 1], rz = armA[i + 2];
+
+        float vx = -(bodies.vx[a] + bodies.wy[a] * rz - bodies.wz[a] * ry);
+        float vy = -(bodies.vy[a] + bodies.wz[a] * rx - bodies.wx[a] * rz);
+        float vz = -(bodies.vz[a] + bodies.wx[a] * ry - bodies.wy[a] * rx);
+        if (b != CollisionResponder.STATIC) {
+            rx = armB[i]; ry = armB[i + 1]; rz = armB[i + 2];
+            vx += bodies.vx[b] + bodies.wy[b] * rz - bodies.wz[b] * ry;
+            vy += bodies.vy[b] + bodies.wz[b] * rx - bodies.wx[b] * rz;
+            vz += bodies.vz[b] + bodies.wx[b] * ry - bodies.wy[b] * rx;
+        }
+        return vx * direction[i] + vy * direction[i + 1] + vz * direction[i + 2];
+    }
+
+    /** Applies impulse P to B and -P to A at point p */
+    private void applyImpulse(
+        RigidBodyStore bodies,
+        int p,
+        float px, float py, float pz
+    ) {
+        int i = p * 3;
+        int a = bodyA[p], b = bodyB[p];
+        applyImpulse(bodies, a, -px, -py, -pz, armA[i], armA[i + 1], armA[i + 2]);
+        if (b != CollisionResponder.STATIC) {
+            applyImpulse(bodies, b, px, py, pz, armB[i], armB[i + 1], armB[i + 2]);
+        }
+    }
+
+    private static void applyImpulse(
+        RigidBodyStore bodies,
+        int id,
+        float px, float py, float pz,
+        float rx, float ry, float rz
+    ) {
+        float im = bodies.invMass[id];
+        float ii = bodies.invInertia[id];
+        bodies.vx[id] += im * px;
+        bodies.vy[id] += im * py;
+        bodies.vz[id] += im * pz;
+        bodies.wx[id] += ii * (ry * pz - rz * py);
+        bodies.wy[id] += ii * (rz * px - rx * pz);
+        bodies.wz[id] += ii * (rx * py - ry * px);
+    }
+
+    private float effectiveMass(
+        int p,
+        float invMassSum,
+        float iiA,
+        float iiB,
+        float[] direction
+    ) {
+        int i = p * 3;
+        float dx = direction[i], dy = direction[i + 1], dz = direction[i + 2];
+        float k = invMassSum
+            + iiA * crossLengthSq(armA[i], armA[i + 1], armA[i + 2], dx, dy, dz)
+            + iiB * crossLengthSq(armB[i], armB[i + 1], armB[i + 2], dx, dy, dz);
+        return 1F / Math.max(k, EPS);
+    }
+
+    private static float crossLengthSq(
+        float ax, float ay, float az,
+        float bx, float by, float bz
+    ) {
+        float cx = ay * bz - az * by;
+        float cy = az * bx - ax * bz;
+        float cz = ax * by - ay * bx;
+        return cx * cx + cy * cy + cz * cz;
+    }
+
+    private static float clamp(float value, float min, float max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private void grow(int size) {
+        capacity = size;
+        bodyA = bodyA == null ? new int[size] : Arrays.copyOf(bodyA, size);
+        bodyB = bodyB == null ? new int[size] : Arrays.copyOf(bodyB, size);
+        cacheSlot = cacheSlot == null ? new int[size] : Arrays.copyOf(cacheSlot, size);
+        cachePoint = cachePoint == null ? new int[size] : Arrays.copyOf(cachePoint, size);
+
+        normal = growVectors(normal, size);
+        tangent1 = growVectors(tangent1, size);
+        tangent2 = growVectors(tangent2, size);
+        armA = growVectors(armA, size);
+        armB = growVectors(armB, size);
+
+        invMassA = growScalars(invMassA, size);
+        invMassB = growScalars(invMassB, size);
+        massNormal = growScalars(massNormal, size);
+        massTangent1 = growScalars(massTangent1, size);
+        massTangent2 = growScalars(massTangent2, size);
+        massPosition = growScalars(massPosition, size);
+        friction = growScalars(friction, size);
+        bounce = growScalars(bounce, size);
+        depth = growScalars(depth, size);
+        jn = growScalars(jn, size);
+        jt1 = growScalars(jt1, size);
+        jt2 = growScalars(jt2, size);
+        jp = growScalars(jp, size);
+    }
+
+    private static float[] growScalars(@Nullable float[] array, int size) {
+        return array == null ? new float[size] : Arrays.copyOf(array, size);
+    }
+
+    private static float[] growVectors(@Nullable float[] array, int size) {
+        return array == null ? new float[size * 3] : Arrays.copyOf(array, size * 3);
+    }
+
+}
@@ -2,6 +2,7 @@ package com.glance.plinko.platform.paper.physics.collision;
 
 import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
 import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
+import com.glance.plinko.platform.paper.physics.shape.Sphere;
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
 import org.joml.Vector3f;
@@ -17,7 +18,28 @@ public class PhysicsCollider {
             OrientedBox a,
             OrientedBox b
     ) {
-        return PhysicsSeparatingAxis.resolveOBBvsOBB(a, b);
+        return PhysicsSeparatingAxis.resolveOBBvsOBBFast(a, b);
+    }
+
+    public CollisionResult resolveSphereVsSphere(
+            Sphere a,
+            Sphere b
+    ) {
+        return PhysicsSphereCollider.resolveSphereVsSphere(a, b);
+    }
+
+    public CollisionResult resolveSphereVsOBB(
+            Sphere a,
+            OrientedBox b
+    ) {
+        return PhysicsSphereCollider.resolveSphereVsOBB(a, b);
+    }
+
+    public CollisionResult resolveOBBvsSphere(
+            OrientedBox a,
+            Sphere b
+    ) {
+        return PhysicsSphereCollider.resolveOBBvsSphere(a, b);
     }
 
 }
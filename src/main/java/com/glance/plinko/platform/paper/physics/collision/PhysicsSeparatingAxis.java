@@ -3,6 +3,7 @@ package com.glance.plinko.platform.paper.physics.collision;
 import com.glance.plinko.platform.paper.physics.collision.manifold.Manifold;
 import com.glance.plinko.platform.paper.physics.collision.manifold.ManifoldHelper;
 import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import com.glance.plinko.platform.paper.physics.shape.StaticObstacle;
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
 import org.joml.Matrix3f;
@@ -31,6 +32,60 @@ public class PhysicsSeparatingAxis {
         int j;
     }
 
+    /** Reusable per-thread workspace for {@link #resolveOBBvsOBBFast} */
+    private final class SatScratch {
+        final Vector3f[] axesA = { new Vector3f(), new Vector3f(), new Vector3f() };
+        final Vector3f[] axesB = { new Vector3f(), new Vector3f(), new Vector3f() };
+        final float[] extentsA = new float[3];
+        final float[] extentsB = new float[3];
+        final Vector3f d = new Vector3f();
+        final Vector3f axis = new Vector3f();
+
+        final Vector3f bestAxis = new Vector3f();
+        float bestOverlap;
+        CollisionResult.AxisType bestType;
+        int bestI;
+        int bestJ;
+        boolean hasBest;
+
+        void load(OrientedBox a, OrientedBox b) {
+            Matrix3f rotA = a.rotation();
+            Matrix3f rotB = b.rotation();
+            Vector3f halfA = a.halfSize();
+            Vector3f halfB = b.halfSize();
+
+            for (int i = 0; i < 3; i++) {
+                rotA.getColumn(i, axesA[i]);
+                rotB.getColumn(i, axesB[i]);
+                extentsA[i] = halfA.get(i) * a.scale().get(i);
+                extentsB[i] = halfB.get(i) * b.scale().get(i);
+            }
+
+            d.set(b.center()).sub(a.center());
+            hasBest = false;
+            bestType = null;
+        }
+
+        /** Same as {@link #load(OrientedBox, OrientedBox)}, B read from precomputed fields */
+        void load(OrientedBox a, StaticObstacle b) {
+            Matrix3f rotA = a.rotation();
+            Vector3f halfA = a.halfSize();
+
+            for (int i = 0; i < 3; i++) {
+                rotA.getColumn(i, axesA[i]);
+                b.axis(i, axesB[i]);
+                extentsA[i] = halfA.get(i) * a.scale().get(i);
+                extentsB[i] = b.extent(i);
+            }
+
+            d.set(b.cx, b.cy, b.cz).sub(a.center());
+            hasBest = false;
+            bestType = null;
+        }
+    }
+
+    private final ThreadLocal<SatScratch> SCRATCH = ThreadLocal.withInitial(SatScratch::new);
+
     /**
      * Resolves collision between 2 oriented bounding boxes (OBBs)
      * using SAT (Separating Axis Theorem)
@@ -85,14 +140,135 @@ public class PhysicsSeparatingAxis {
 
         if (best == null) return null;
 
-        Vector3f normal = new Vector3f(best.axis);
+        return buildResult(a, b, axesA, axesB, d, best.axis, best.overlap, best.axisType, best.i, best.j);
+    }
+
+    /**
+     * Allocation-free equivalent of {@link #resolveOBBvsOBB(OrientedBox, OrientedBox)}
+     * <p>
+     * Uses a per-thread scratch workspace, exits on the first separating axis and only
+     * allocates once the boxes are known to overlap. Performs the exact same float
+     * operations in the same order, so results are bit-identical to the reference path
+     *
+     * @param a First OBB
+     * @param b Second OBB
+     * @return {@link CollisionResult} if intersecting, otherwise null
+     */
+    public CollisionResult resolveOBBvsOBBFast(
+        OrientedBox a,
+        OrientedBox b
+    ) {
+        SatScratch s = SCRATCH.get();
+        s.load(a, b);
+        return testAll(s, a, b);
+    }
+
+    /**
+     * {@link #resolveOBBvsOBBFast} against a board obstacle, B's axes and extents come from
+     * its cached fields. Bit-identical to passing {@code b.shape()}
+     *
+     * @param a Moving OBB
+     * @param b Static box obstacle, see {@link StaticObstacle#isBox()}
+     * @return {@link CollisionResult} if intersecting, otherwise null
+     */
+    public CollisionResult resolveOBBvsStatic(
+        OrientedBox a,
+        StaticObstacle b
+    ) {
+        SatScratch s = SCRATCH.get();
+        s.load(a, b);
+        return testAll(s, a, (OrientedBox) b.shape());
+    }
+
+    /** Runs the 15 axes over a loaded scratch, exiting on the first separating one */
+    private CollisionResult testAll(
+        @NotNull SatScratch s,
+        @NotNull OrientedBox a,
+        @NotNull OrientedBox b
+    ) {
+        for (int i = 0; i < 3; i++) {
+            s.axis.set(s.axesA[i]).normalize();
+            if (!testAxis(s, CollisionResult.AxisType.FACE_A, i, -1)) return null;
+        }
+        for (int j = 0; j < 3; j++) {
+            s.axis.set(s.axesB[j]).normalize();
+            if (!testAxis(s, CollisionResult.AxisType.FACE_B, -1, j)) return null;
+        }
+
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                s.axis.set(s.axesA[i]).cross(s.axesB[j]);
+                if (s.axis.lengthSquared() > MIN_AXIS_LENGTH_SQUARED) {
+                    // Normalized twice to mirror the reference path exactly
+                    s.axis.normalize().normalize();
+                    if (!testAxis(s, CollisionResult.AxisType.EDGE_CROSS, i, j)) return null;
+                }
+            }
+        }
+
+        if (!s.hasBest) return null;
+
+        return buildResult(a, b, s.axesA, s.axesB, s.d,
+                s.bestAxis, s.bestOverlap, s.bestType, s.bestI, s.bestJ);
+    }
+
+    /**
+     * Tests the scratch axis, tracking the minimum overlap
+     *
+     * @return false if the axis separates the boxes
+     */
+    private boolean testAxis(
+        @NotNull SatScratch s,
+        @NotNull CollisionResult.AxisType axisType,
+        int i, int j
+    ) {
+        float rA = projectExtents(s.axis, s.axesA, s.extentsA);
+        float rB = projectExtents(s.axis, s.axesB, s.extentsB);
+        float dist = Math.abs(s.d.dot(s.axis));
+        float overlap = (rA + rB) - dist;
+
+        if (!Float.isFinite(overlap)) return true;
+        if (overlap <= 0F) return false;
+
+        if (!s.hasBest || overlap < s.bestOverlap) {
+            s.hasBest = true;
+            s.bestOverlap = overlap;
+            s.bestAxis.set(s.axis);
+            s.bestType = axisType;
+            s.bestI = i;
+            s.bestJ = j;
+        }
+        return true;
+    }
+
+    private float projectExtents(Vector3f axis, Vector3f[] localAxes, float[] halfExtents) {
+        float projection = 0f;
+        for (int i = 0; i < 3; i++) {
+            projection += Math.abs(axis.dot(localAxes[i]) * halfExtents[i]);
+        }
+        return projection;
+    }
+
+    private CollisionResult buildResult(
+        @NotNull OrientedBox a,
+        @NotNull OrientedBox b,
+        @NotNull Vector3f[] axesA,
+        @NotNull Vector3f[] axesB,
+        @NotNull Vector3f d,
+        @NotNull Vector3f bestAxis,
+        float bestOverlap,
+        @NotNull CollisionResult.AxisType bestType,
+        int bestI,
+        int bestJ
+    ) {
+        Vector3f normal = new Vector3f(bestAxis);
         if (d.dot(normal) < 0F) normal.negate(); // ensure pointing from A to B
 
         CollisionResult.ContactTopology topology;
         boolean refIsA;
         int relFaceIdx;
 
-        switch (best.axisType) {
+        switch (bestType) {
             case FACE_A -> {
                 topology = CollisionResult.ContactTopology.FACE_FACE;
                 refIsA = true;
@@ -119,16 +295,16 @@ public class PhysicsSeparatingAxis {
         if (topology == CollisionResult.ContactTopology.FACE_FACE) {
             manifold = ManifoldHelper.buildFaceFaceManifold(a, b, normal, refIsA, relFaceIdx);
         } else {
-            manifold = ManifoldHelper.buildEdgeEdgeManifold(a, b, best.i, best.j, normal);
+            manifold = ManifoldHelper.buildEdgeEdgeManifold(a, b, bestI, bestJ, normal);
         }
 
-        int indexA = (best.axisType == CollisionResult.AxisType.FACE_A) ? relFaceIdx : best.i;
-        int indexB = (best.axisType == CollisionResult.AxisType.FACE_B) ? relFaceIdx : best.j;
+        int indexA = (bestType == CollisionResult.AxisType.FACE_A) ? relFaceIdx : bestI;
+        int indexB = (bestType == CollisionResult.AxisType.FACE_B) ? relFaceIdx : bestJ;
 
         return new CollisionResult(
             normal.normalize(),
-            best.overlap,
-            best.axisType,
+            bestOverlap,
+            bestType,
             topology,
             indexA,
             indexB,
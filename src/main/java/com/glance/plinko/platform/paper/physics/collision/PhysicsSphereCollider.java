@@ -0,0 +1,190 @@
+package com.glance.plinko.platform.paper.physics.collision;
+
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import com.glance.plinko.platform.paper.physics.shape.PhysicsShape;
+import com.glance.plinko.platform.paper.physics.shape.Sphere;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3f;
+import org.joml.Vector3f;
+
+import java.util.List;
+
+/**
+ * Closed-form narrowphase for spheres
+ * <p>
+ * Sphere contacts are always a single point, so no SAT axes or manifold clipping are needed
+ */
+@UtilityClass
+public class PhysicsSphereCollider {
+
+    private final float EPS = 1e-6F;
+
+    /**
+     * @return null if the spheres don't overlap, the normal points from A to B
+     */
+    public @Nullable CollisionResult resolveSphereVsSphere(
+        @NotNull Sphere a,
+        @NotNull Sphere b
+    ) {
+        Vector3f ca = a.center();
+        Vector3f cb = b.center();
+        float dx = cb.x - ca.x;
+        float dy = cb.y - ca.y;
+        float dz = cb.z - ca.z;
+
+        float radii = a.radius() + b.radius();
+        float distSq = dx * dx + dy * dy + dz * dz;
+        if (distSq >= radii * radii) return null;
+
+        float dist = (float) Math.sqrt(distSq);
+        Vector3f normal = dist > EPS
+            ? new Vector3f(dx, dy, dz).div(dist)
+            : new Vector3f(0F, 1F, 0F); // concentric, any direction separates
+
+        float depth = radii - dist;
+        Vector3f contact = new Vector3f(ca).fma(a.radius() - depth * 0.5F, normal);
+
+        return pointResult(normal, depth, -1, -1, contact, b);
+    }
+
+    /**
+     * @return null if they don't overlap, the normal points from the sphere to the box
+     */
+    public @Nullable CollisionResult resolveSphereVsOBB(
+        @NotNull Sphere a,
+        @NotNull OrientedBox b
+    ) {
+        return sphereBox(b, a, true);
+    }
+
+    /**
+     * @return null if they don't overlap, the normal points from the box to the sphere
+     */
+    public @Nullable CollisionResult resolveOBBvsSphere(
+        @NotNull OrientedBox a,
+        @NotNull Sphere b
+    ) {
+        return sphereBox(a, b, false);
+    }
+
+    /**
+     * Clamps the sphere centre into box-local space to find the closest point on the box
+     * <p>
+     * If the centre is inside the box the shallowest face is used instead
+     */
+    private @Nullable CollisionResult sphereBox(
+        @NotNull OrientedBox box,
+        @NotNull Sphere sphere,
+        boolean sphereIsA
+    ) {
+        Matrix3f r = box.rotation();
+        Vector3f bc = box.center();
+        Vector3f sc = sphere.center();
+        float radius = sphere.radius();
+
+        float hx = box.halfSize().x * box.scale().x;
+        float hy = box.halfSize().y * box.scale().y;
+        float hz = box.halfSize().z * box.scale().z;
+
+        float dx = sc.x - bc.x;
+        float dy = sc.y - bc.y;
+        float dz = sc.z - bc.z;
+
+        // Sphere centre in box-local space, column i is local axis i
+        float lx = r.m00() * dx + r.m01() * dy + r.m02() * dz;
+        float ly = r.m10() * dx + r.m11() * dy + r.m12() * dz;
+        float lz = r.m20() * dx + r.m21() * dy + r.m22() * dz;
+
+        // Cheap reject before clamping
+        if (Math.abs(lx) > hx + radius || Math.abs(ly) > hy + radius || Math.abs(lz) > hz + radius) return null;
+
+        float qx = clamp(lx, hx);
+        float qy = clamp(ly, hy);
+        float qz = clamp(lz, hz);
+
+        Vector3f normal;
+        Vector3f contact;
+        float depth;
+        int face;
+
+        boolean inside = qx == lx && qy == ly && qz == lz;
+        if (inside) {
+            float fx = hx - Math.abs(lx);
+            float fy = hy - Math.abs(ly);
+            float fz = hz - Math.abs(lz);
+
+            face = (fx <= fy && fx <= fz) ? 0 : (fy <= fz ? 1 : 2);
+            float local = face == 0 ? lx : face == 1 ? ly : lz;
+            float sign = local < 0F ? -1F : 1F;
+
+            normal = r.getColumn(face, new Vector3f()).mul(sign);
+            depth = radius + (face == 0 ? fx : face == 1 ? fy : fz);
+
+            // Push the centre out onto the chosen face
+            if (face == 0) qx = sign * hx;
+            else if (face == 1) qy = sign * hy;
+            else qz = sign * hz;
+            contact = toWorld(r, bc, qx, qy, qz);
+        } else {
+            contact = toWorld(r, bc, qx, qy, qz);
+            float cx = sc.x - contact.x;
+            float cy = sc.y - contact.y;
+            float cz = sc.z - contact.z;
+
+            float distSq = cx * cx + cy * cy + cz * cz;
+            if (distSq >= radius * radius) return null;
+
+            float dist = (float) Math.sqrt(distSq);
+            normal = new Vector3f(cx, cy, cz).div(dist);
+            depth = radius - dist;
+
+            // Face whose slab the centre is furthest outside of
+            float ox = Math.abs(lx) - hx;
+            float oy = Math.abs(ly) - hy;
+            float oz = Math.abs(lz) - hz;
+            face = (ox >= oy && ox >= oz) ? 0 : (oy >= oz ? 1 : 2);
+        }
+
+        // normal currently points box -> sphere
+        if (sphereIsA) {
+            return pointResult(normal.negate(), depth, -1, face, contact, box);
+        }
+        return pointResult(normal, depth, face, -1, contact, sphere);
+    }
+
+    private float clamp(float v, float half) {
+        return Math.max(-half, Math.min(half, v));
+    }
+
+    private Vector3f toWorld(Matrix3f r, Vector3f origin, float x, float y, float z) {
+        return new Vector3f(
+            origin.x + r.m00() * x + r.m10() * y + r.m20() * z,
+            origin.y + r.m01() * x + r.m11() * y + r.m21() * z,
+            origin.z + r.m02() * x + r.m12() * y + r.m22() * z
+        );
+    }
+
+    private CollisionResult pointResult(
+        Vector3f normal,
+        float depth,
+        int indexA,
+        int indexB,
+        Vector3f contact,
+        PhysicsShape other
+    ) {
+        return new CollisionResult(
+            normal,
+            depth,
+            CollisionResult.AxisType.CENTER_LINE,
+            CollisionResult.ContactTopology.POINT,
+            indexA,
+            indexB,
+            List.of(contact),
+            new Vector3f(contact),
+            other
+        );
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.glance.plinko.platform.paper.physics.collision.batch;
+
+import com.glance.plinko.platform.paper.physics.shape.StaticObstacle;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Static obstacle boxes laid out as structure-of-arrays, one float array per component
+ * <p>
+ * Copied from the {@link StaticObstacle} array it was built from and indexed the same way,
+ * so grid query indices can be used to gather candidates straight into SIMD lanes. Shapes that aren't boxes are flagged and
+ * always pass a batch test
+ */
+public final class ObstacleLanes {
+
+    private final int size;
+
+    public final float[] cx, cy, cz;
+
+    // World-space local axes u0, u1, u2
+    public final float[] u0x, u0y, u0z;
+    public final float[] u1x, u1y, u1z;
+    public final float[] u2x, u2y, u2z;
+
+    // Scaled half extents along u0, u1, u2
+    public final float[] e0, e1, e2;
+
+    // Bounding sphere radius and world AABB half extents, computed once per obstacle
+    public final float[] radius;
+    public final float[] hx, hy, hz;
+
+    // 1 for shapes that aren't boxes, 0 otherwise
+    public final float[] passThrough;
+
+    private ObstacleLanes(int size) {
+        this.size = size;
+        this.cx = new float[size]; this.cy = new float[size]; this.cz = new float[size];
+        this.u0x = new float[size]; this.u0y = new float[size]; this.u0z = new float[size];
+        this.u1x = new float[size]; this.u1y = new float[size]; this.u1z = new float[size];
+        this.u2x = new float[size]; this.u2y = new float[size]; this.u2z = new float[size];
+        this.e0 = new float[size]; this.e1 = new float[size]; this.e2 = new float[size];
+        this.radius = new float[size];
+        this.hx = new float[size]; this.hy = new float[size]; this.hz = new float[size];
+        this.passThrough = new float[size];
+    }
+
+    public static @NotNull ObstacleLanes of(@NotNull StaticObstacle[] obstacles) {
+        ObstacleLanes lanes = new ObstacleLanes(obstacles.length);
+        for (int i = 0; i < obstacles.length; i++) {
+            StaticObstacle o = obstacles[i];
+            if (!o.isBox()) {
+                lanes.passThrough[i] = 1F;
+                continue;
+            }
+
+            lanes.cx[i] = o.cx; lanes.cy[i] = o.cy; lanes.cz[i] = o.cz;
+            lanes.u0x[i] = o.u0x; lanes.u0y[i] = o.u0y; lanes.u0z[i] = o.u0z;
+            lanes.u1x[i] = o.u1x; lanes.u1y[i] = o.u1y; lanes.u1z[i] = o.u1z;
+            lanes.u2x[i] = o.u2x; lanes.u2y[i] = o.u2y; lanes.u2z[i] = o.u2z;
+            lanes.e0[i] = o.e0; lanes.e1[i] = o.e1; lanes.e2[i] = o.e2;
+
+            lanes.radius[i] = o.radius;
+            lanes.hx[i] = o.hx; lanes.hy[i] = o.hy; lanes.hz[i] = o.hz;
+        }
+        return lanes;
+    }
+
+    public int size() {
+        return size;
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.glance.plinko.platform.paper.physics.collision.batch;
+
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix3f;
+
+/**
+ * One candidate at a time, same tiers and margins as the vector implementation
+ * <p>
+ * Bounding spheres and AABBs go first, then the SAT axes. The SAT works in the moving box's frame: the 9 dot products between both boxes' axes and the
+ * centre offset projected on each axis are enough for all 15 tests, so cross axes are
+ * never built or normalized
+ * <p>
+ * Stateless and thread-safe
+ */
+final class ScalarSeparatingAxisBatch implements SeparatingAxisBatch {
+
+    static final ScalarSeparatingAxisBatch INSTANCE = new ScalarSeparatingAxisBatch();
+
+    private ScalarSeparatingAxisBatch() {}
+
+    @Override
+    public int retainOverlapping(
+        @NotNull OrientedBox box,
+        @NotNull ObstacleLanes lanes,
+        int[] candidates,
+        int count,
+        int[] out,
+        @NotNull TierCounters tiers
+    ) {
+        return retain(box, lanes, candidates, 0, count, out, 0, tiers);
+    }
+
+    /**
+     * Filters candidates [from, to) and appends survivors to {@code out} starting at {@code kept}
+     *
+     * @return the new number of entries in {@code out}
+     */
+    int retain(
+        OrientedBox box,
+        ObstacleLanes lanes,
+        int[] candidates,
+        int from,
+        int to,
+        int[] out,
+        int kept,
+        TierCounters tiers
+    ) {
+        Matrix3f r = box.rotation();
+        float a0x = r.m00(), a0y = r.m01(), a0z = r.m02();
+        float a1x = r.m10(), a1y = r.m11(), a1z = r.m12();
+        float a2x = r.m20(), a2y = r.m21(), a2z = r.m22();
+        float ea0 = box.halfSize().x * box.scale().x;
+        float ea1 = box.halfSize().y * box.scale().y;
+        float ea2 = box.halfSize().z * box.scale().z;
+        float ax = box.center().x, ay = box.center().y, az = box.center().z;
+
+        // The moving box's bounds, once per call rather than per pair
+        float ra = box.boundingRadius();
+        float hax = Math.abs(a0x) * ea0 + Math.abs(a1x) * ea1 + Math.abs(a2x) * ea2;
+        float hay = Math.abs(a0y) * ea0 + Math.abs(a1y) * ea1 + Math.abs(a2y) * ea2;
+        float haz = Math.abs(a0z) * ea0 + Math.abs(a1z) * ea1 + Math.abs(a2z) * ea2;
+
+        for (int c = from; c < to; c++) {
+            int k = candidates[c];
+            int tier = lanes.passThrough[k] != 0F ? TierCounters.KEPT : separated(
+                lanes, k, ax, ay, az,
+                a0x, a0y, a0z, a1x, a1y, a1z, a2x, a2y, a2z,
+                ea0, ea1, ea2,
+                ra, hax, hay, haz
+            );
+            tiers.record(tier);
+            if (tier == TierCounters.KEPT) out[kept++] = k;
+        }
+        return kept;
+    }
+
+    @Override
+    public @NotNull String name() {
+        return "scalar";
+    }
+
+    /** @return the tier that rejected the pair, or {@link TierCounters#KEPT} */
+    private static int separated(
+        ObstacleLanes l,
+        int k,
+        float ax, float ay, float az,
+        float a0x, float a0y, float a0z,
+        float a1x, float a1y, float a1z,
+        float a2x, float a2y, float a2z,
+        float ea0, float ea1, float ea2,
+        float ra, float hax, float hay, float haz
+    ) {
+        float dx = l.cx[k] - ax, dy = l.cy[k] - ay, dz = l.cz[k] - az;
+
+        float reach = (ra + l.radius[k]) * (1F + RELATIVE_MARGIN) + ABSOLUTE_MARGIN;
+        if (dx * dx + dy * dy + dz * dz > reach * reach) return TierCounters.SPHERE;
+
+        if (apart(dx, hax, l.hx[k]) || apart(dy, hay, l.hy[k]) || apart(dz, haz, l.hz[k])) return TierCounters.AABB;
+
+        float b0x = l.u0x[k], b0y = l.u0y[k], b0z = l.u0z[k];
+        float b1x = l.u1x[k], b1y = l.u1y[k], b1z = l.u1z[k];
+        float b2x = l.u2x[k], b2y = l.u2y[k], b2z = l.u2z[k];
+        float eb0 = l.e0[k], eb1 = l.e1[k], eb2 = l.e2[k];
+
+        // Dot products between every pair of axes, reused by all 15 tests
+        float c00 = a0x * b0x + a0y * b0y + a0z * b0z;
+        float c01 = a0x * b1x + a0y * b1y + a0z * b1z;
+        float c02 = a0x * b2x + a0y * b2y + a0z * b2z;
+        float c10 = a1x * b0x + a1y * b0y + a1z * b0z;
+        float c11 = a1x * b1x + a1y * b1y + a1z * b1z;
+        float c12 = a1x * b2x + a1y * b2y + a1z * b2z;
+        float c20 = a2x * b0x + a2y * b0y + a2z * b0z;
+        float c21 = a2x * b1x + a2y * b1y + a2z * b1z;
+        float c22 = a2x * b2x + a2y * b2y + a2z * b2z;
+
+        // Centre offset in each box's frame
+        float da0 = dx * a0x + dy * a0y + dz * a0z;
+        float da1 = dx * a1x + dy * a1y + dz * a1z;
+        float da2 = dx * a2x + dy * a2y + dz * a2z;
+        float db0 = dx * b0x + dy * b0y + dz * b0z;
+        float db1 = dx * b1x + dy * b1y + dz * b1z;
+        float db2 = dx * b2x + dy * b2y + dz * b2z;
+
+        // Padded so near-parallel edges, whose cross axis is almost zero, never separate
+        float ac00 = Math.abs(c00) + PARALLEL_EPS, ac01 = Math.abs(c01) + PARALLEL_EPS, ac02 = Math.abs(c02) + PARALLEL_EPS;
+        float ac10 = Math.abs(c10) + PARALLEL_EPS, ac11 = Math.abs(c11) + PARALLEL_EPS, ac12 = Math.abs(c12) + PARALLEL_EPS;
+        float ac20 = Math.abs(c20) + PARALLEL_EPS, ac21 = Math.abs(c21) + PARALLEL_EPS, ac22 = Math.abs(c22) + PARALLEL_EPS;
+
+        // Faces of A
+        if (apart(da0, ea0, eb0 * ac00 + eb1 * ac01 + eb2 * ac02)) return TierCounters.FACE;
+        if (apart(da1, ea1, eb0 * ac10 + eb1 * ac11 + eb2 * ac12)) return TierCounters.FACE;
+        if (apart(da2, ea2, eb0 * ac20 + eb1 * ac21 + eb2 * ac22)) return TierCounters.FACE;
+
+        // Faces of B
+        if (apart(db0, ea0 * ac00 + ea1 * ac10 + ea2 * ac20, eb0)) return TierCounters.FACE;
+        if (apart(db1, ea0 * ac01 + ea1 * ac11 + ea2 * ac21, eb1)) return TierCounters.FACE;
+        if (apart(db2, ea0 * ac02 + ea1 * ac12 + ea2 * ac22, eb2)) return TierCounters.FACE;
+
+        // Edge crosses a_i x b_j, expressed through the dot products above
+        if (apart(da2 * c10 - da1 * c20, ea1 * ac20 + ea2 * ac10, eb1 * ac02 + eb2 * ac01)) return TierCounters.EDGE;
+        if (apart(da2 * c11 - da1 * c21, ea1 * ac21 + ea2 * ac11, eb0 * ac02 + eb2 * ac00)) return TierCounters.EDGE;
+        if (apart(da2 * c12 - da1 * c22, ea1 * ac22 + ea2 * ac12, eb0 * ac01 + eb1 * ac00)) return TierCounters.EDGE;
+        if (apart(da0 * c20 - da2 * c00, ea0 * ac20 + ea2 * ac00, eb1 * ac12 + eb2 * ac11)) return TierCounters.EDGE;
+        if (apart(da0 * c21 - da2 * c01, ea0 * ac21 + ea2 * ac01, eb0 * ac12 + eb2 * ac10)) return TierCounters.EDGE;
+        if (apart(da0 * c22 - da2 * c02, ea0 * ac22 + ea2 * ac02, eb0 * ac11 + eb1 * ac10)) return TierCounters.EDGE;
+        if (apart(da1 * c00 - da0 * c10, ea0 * ac10 + ea1 * ac00, eb1 * ac22 + eb2 * ac21)) return TierCounters.EDGE;
+        if (apart(da1 * c01 - da0 * c11, ea0 * ac11 + ea1 * ac01, eb0 * ac22 + eb2 * ac20)) return TierCounters.EDGE;
+        return apart(da1 * c02 - da0 * c12, ea0 * ac12 + ea1 * ac02, eb0 * ac21 + eb1 * ac20) ? TierCounters.EDGE : TierCounters.KEPT;
+    }
+
+    private static boolean apart(float distance, float ra, float rb) {
+        return Math.abs(distance) > (ra + rb) * (1F + RELATIVE_MARGIN) + ABSOLUTE_MARGIN;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.glance.plinko.platform.paper.physics.collision.batch;
+
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Rejects many obstacle candidates against one box at once, cheapest test first: bounding
+ * spheres, world AABBs, the 6 face axes and finally the 9 edge cross axes
+ * <p>
+ * This is a conservative filter in front of the regular narrowphase: a candidate is only
+ * dropped when its bounds or some axis separate it by more than a small margin, so everything kept is
+ * still resolved by {@code PhysicsSeparatingAxis} and results stay bit-identical whichever
+ * implementation ran
+ * <p>
+ * {@link #preferred()} is the scalar implementation unless started with
+ * {@code -Dplinko.sat.batch=vector} and {@code --add-modules jdk.incubator.vector}
+ */
+public interface SeparatingAxisBatch {
+
+    String PROPERTY = "plinko.sat.batch";
+
+    // Rounding headroom, the filter must never drop a pair the exact test would keep
+    float RELATIVE_MARGIN = 1e-4F;
+    float ABSOLUTE_MARGIN = 1e-5F;
+    float PARALLEL_EPS = 1e-5F;
+
+    /**
+     * Copies the candidates that may overlap the box into {@code out}, in order
+     *
+     * @param candidates obstacle indices into {@code lanes}
+     * @param out may not alias {@code candidates}, needs room for {@code count} entries
+     * @param tiers counts which tier rejected each candidate
+     * @return the number of candidates kept
+     */
+    int retainOverlapping(
+        @NotNull OrientedBox box,
+        @NotNull ObstacleLanes lanes,
+        int[] candidates,
+        int count,
+        int[] out,
+        @NotNull TierCounters tiers
+    );
+
+    /** @return a short name for logs and stats */
+    @NotNull String name();
+
+    static @NotNull SeparatingAxisBatch preferred() {
+        return SeparatingAxisBatches.PREFERRED;
+    }
+
+    static @NotNull SeparatingAxisBatch scalar() {
+        return ScalarSeparatingAxisBatch.INSTANCE;
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.glance.plinko.platform.paper.physics.collision.batch;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * How many candidate pairs each rejection tier of a {@link SeparatingAxisBatch} dropped
+ * <p>
+ * Tiers run cheapest first: bounding spheres, world AABBs, the 6 face axes, then the 9 edge
+ * cross axes. A board where most rejections land late has pegs packed closer than their
+ * bounds suggest, and is worth spacing out or rotating
+ * <p>
+ * Not thread-safe, keep one per simulation
+ */
+public final class TierCounters {
+
+    static final int KEPT = 0;
+    static final int SPHERE = 1;
+    static final int AABB = 2;
+    static final int FACE = 3;
+    static final int EDGE = 4;
+
+    private final long[] counts = new long[5];
+
+    void record(int tier) {
+        counts[tier]++;
+    }
+
+    void record(int tier, int pairs) {
+        counts[tier] += pairs;
+    }
+
+    /** @return pairs rejected by bounding sphere distance */
+    public long sphere() {
+        return counts[SPHERE];
+    }
+
+    /** @return pairs rejected by world AABB overlap */
+    public long aabb() {
+        return counts[AABB];
+    }
+
+    /** @return pairs rejected by a face axis of either box */
+    public long face() {
+        return counts[FACE];
+    }
+
+    /** @return pairs rejected by an edge cross axis */
+    public long edge() {
+        return counts[EDGE];
+    }
+
+    /** @return pairs passed on to narrowphase */
+    public long kept() {
+        return counts[KEPT];
+    }
+
+    public long total() {
+        long total = 0L;
+        for (long count : counts) total += count;
+        return total;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0L);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "TierCounters[sphere=" + sphere()
+            + ", aabb=" + aabb()
+            + ", face=" + face()
+            + ", edge=" + edge()
+            + ", kept=" + kept() + "]";
+    }
+
+}
@@ -10,7 +10,6 @@ import org.joml.Vector3f;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 
 @UtilityClass
@@ -26,30 +25,68 @@ public class ManifoldHelper {
         {6,7}
     };
 
+    /** Most points a face-face manifold keeps, a box resting on a face needs no more */
+    public final int MAX_FACE_POINTS = 4;
+
+    // Each edge adds at most 2 slice points, each rectangle side adds at most 1 while clipping
+    private final int MAX_SLICE = BOX_EDGES.length * 2;
+    private final int MAX_POLY = MAX_SLICE + 4;
+
     private static final class FaceBasis {
-        Vector3f center, u, v;  // orthonormal in-plane basis of the face
+        final Vector3f center = new Vector3f(), u = new Vector3f(), v = new Vector3f(); // orthonormal in-plane basis of the face
         float halfU, halfV; // half lengths along u and v
 
-        Vector3f[] rectangleCorners() {
-            return new Vector3f[] {
-                new Vector3f(this.center).fma(+this.halfU, this.u).fma(+this.halfV, this.v),
-                new Vector3f(this.center).fma(+this.halfU, this.u).fma(-this.halfV, this.v),
-                new Vector3f(this.center).fma(-this.halfU, this.u).fma(-this.halfV, this.v),
-                new Vector3f(this.center).fma(-this.halfU, this.u).fma(+this.halfV, this.v),
-            };
+        /** Corner {@code i} in the order (+u +v), (+u -v), (-u -v), (-u +v) */
+        Vector3f corner(int i, Vector3f dest) {
+            float su = i < 2 ? +this.halfU : -this.halfU;
+            float sv = i == 0 || i == 3 ? +this.halfV : -this.halfV;
+            return dest.set(this.center).fma(su, this.u).fma(sv, this.v);
         }
 
-        Vector2f toUV(Vector3f world) {
-            Vector3f rel = new Vector3f(world).sub(this.center);
-            return new Vector2f(rel.dot(this.u), rel.dot(this.v));
+        Vector3f fromUV(float x, float y, Vector3f dest) {
+            return dest.set(this.center).fma(x, this.u).fma(y, this.v);
         }
+    }
 
-        Vector3f fromUV(Vector2f uv) {
-            return new Vector3f(this.center).fma(uv.x, this.u).fma(uv.y, this.v);
+    /**
+     * Reusable per-thread workspace for {@link #buildFaceFaceManifold}
+     * <p>
+     * Polygons are flat (u, v) pairs, clipping ping-pongs between {@code poly} and {@code clip}
+     */
+    private final class FaceScratch {
+        final FaceBasis ref = new FaceBasis();
+        final FaceBasis inc = new FaceBasis();
+        final Vector3f nRef = new Vector3f();
+        final Vector3f toward = new Vector3f();
+        final Vector3f axis = new Vector3f();
+        final Vector3f axisX = new Vector3f(), axisY = new Vector3f(), axisZ = new Vector3f();
+        final Vector3f[] corners = new Vector3f[8];
+        final float[] distance = new float[8];
+        final Vector3f point = new Vector3f();
+        final Vector3f rel = new Vector3f();
+        final Vector3f sum = new Vector3f();
+        final Vector2f mid = new Vector2f();
+
+        final float[] slice = new float[MAX_SLICE * 3];
+        final float[] poly = new float[MAX_POLY * 2];
+        final float[] clip = new float[MAX_POLY * 2];
+        final float[] angle = new float[MAX_POLY];
+        final int[] keep = new int[MAX_FACE_POINTS];
+
+        FaceScratch() {
+            for (int i = 0; i < 8; i++) corners[i] = new Vector3f();
         }
-
     }
 
+    private final ThreadLocal<FaceScratch> FACE_SCRATCH = ThreadLocal.withInitial(FaceScratch::new);
+
+    /**
+     * Contact points of a face-face overlap, the incident box's cross-section in the reference
+     * face plane clipped to the reference face rectangle
+     * <p>
+     * Clips in place over flat scratch buffers, then keeps at most {@link #MAX_FACE_POINTS} points
+     * spanning the largest area. The centroid is still the average of the whole clipped polygon
+     */
     public Manifold buildFaceFaceManifold(
         @NotNull OrientedBox a,
         @NotNull OrientedBox b,
@@ -57,62 +94,90 @@ public class ManifoldHelper {
         boolean refIsA,
         int faceIdx
     ) {
+        FaceScratch s = FACE_SCRATCH.get();
         OrientedBox ref = refIsA ? a : b;
         OrientedBox inc = refIsA ? b : a;
 
-        Vector3f nRef = refIsA ? new Vector3f(normal) : new Vector3f(normal).negate();
+        Vector3f nRef = refIsA ? s.nRef.set(normal) : s.nRef.set(normal).negate();
 
         // Reference face sits on +n side
-        FaceBasis fb = buildFaceBasis(ref, faceIdx, nRef);
-
-        List<Vector3f> slice = sliceOBBWithPlane(inc, fb.center, nRef);
+        FaceBasis fb = loadFaceBasis(s, s.ref, ref, faceIdx, nRef);
 
-        if (slice.size() < 3) {
-            int incFaceIdx = mostAntiParallelFace(inc, nRef);
-            FaceBasis ib = buildFaceBasis(inc, incFaceIdx, new Vector3f(nRef).negate());
-            slice = Arrays.asList(ib.rectangleCorners());
+        int count = sliceOBBWithPlane(s, inc, fb.center, nRef);
+        if (count >= 3) {
+            for (int k = 0; k < count; k++) {
+                s.point.set(s.slice[k * 3], s.slice[k * 3 + 1], s.slice[k * 3 + 2]);
+                toUV(s, fb, s.point, s.poly, k);
+            }
+        } else {
+            int incFaceIdx = mostAntiParallelFace(s, inc, nRef);
+            FaceBasis ib = loadFaceBasis(s, s.inc, inc, incFaceIdx, s.toward.set(nRef).negate());
+            count = 4;
+            for (int k = 0; k < count; k++) {
+                toUV(s, fb, ib.corner(k, s.point), s.poly, k);
+            }
         }
 
-        List<Vector2f> polyUV = new ArrayList<>(slice.size());
-        for (Vector3f p : slice) polyUV.add(fb.toUV(p));
-
-        List<Vector2f> clipped = clipToRectangle(orderConvex(polyUV), fb.halfU, fb.halfV);
+        orderConvex(s, count);
+        count = clipToRectangle(s, count, fb.halfU, fb.halfV);
 
         Manifold m = new Manifold();
-        if (!clipped.isEmpty()) {
-            Vector3f sum = new Vector3f();
-            for (Vector2f uv : clipped) {
-                Vector3f pt = fb.fromUV(uv);
-                m.points.add(pt);
-                sum.add(pt);
+        if (count > 0) {
+            float[] poly = s.poly;
+            Vector3f sum = s.sum.zero();
+            for (int k = 0; k < count; k++) {
+                sum.add(fb.fromUV(poly[k * 2], poly[k * 2 + 1], s.point));
+            }
+            m.centroid.set(sum.div((float) count));
+
+            int kept = reduce(poly, count, s.keep);
+            for (int k = 0; k < kept; k++) {
+                int p = s.keep[k] * 2;
+                m.points.add(fb.fromUV(poly[p], poly[p + 1], new Vector3f()));
             }
-            m.centroid.set(sum.div((float) clipped.size()));
             return m;
         }
 
-        Vector3f incC = new Vector3f(inc.center());
-        Vector3f rel = incC.sub(fb.center, new Vector3f());
+        Vector3f rel = s.rel.set(inc.center()).sub(fb.center);
         float u = clamp(rel.dot(fb.u), -fb.halfU, fb.halfU);
         float v = clamp(rel.dot(fb.v), -fb.halfV, fb.halfV);
-        Vector3f pt = fb.fromUV(new Vector2f(u, v));
+        Vector3f pt = fb.fromUV(u, v, new Vector3f());
         m.points.add(pt);
         m.centroid.set(pt);
         return m;
     }
 
-    private List<Vector3f> sliceOBBWithPlane(
+    /** @return number of distinct points where box edges meet the plane, written to {@code s.slice} */
+    private int sliceOBBWithPlane(
+        @NotNull FaceScratch s,
         @NotNull OrientedBox box,
         @NotNull Vector3f planePoint,
         @NotNull Vector3f planeN
     ) {
-        Vector3f[] corners = box.corners();
-
-        List<Vector3f> pts = new ArrayList<>(12);
-        float[] signedDistance = new float[8];
+        Vector3f[] corners = s.corners;
+        Matrix3f rotation = box.rotation();
+        Vector3f half = box.halfSize();
+        Vector3f scale = box.scale();
+        Vector3f axisX = rotation.getColumn(0, s.axisX).mul(half.x * scale.x);
+        Vector3f axisY = rotation.getColumn(1, s.axisY).mul(half.y * scale.y);
+        Vector3f axisZ = rotation.getColumn(2, s.axisZ).mul(half.z * scale.z);
+
+        // Same corner order and arithmetic as OrientedBox#corners
+        int index = 0;
+        for (int signX = -1; signX <= 1; signX += 2)
+            for (int signY = -1; signY <= 1; signY += 2)
+                for (int signZ = -1; signZ <= 1; signZ += 2)
+                    corners[index++].set(box.center())
+                        .fma(signX, axisX)
+                        .fma(signY, axisY)
+                        .fma(signZ, axisZ);
+
+        float[] signedDistance = s.distance;
         for (int i = 0; i < 8; i++) {
-            signedDistance[i] = new Vector3f(corners[i]).sub(planePoint).dot(planeN);
+            signedDistance[i] = s.point.set(corners[i]).sub(planePoint).dot(planeN);
         }
 
+        int count = 0;
         for (int[] e : BOX_EDGES) {
             int i = e[0], j = e[1];
             float di = signedDistance[i], dj = signedDistance[j];
@@ -123,53 +188,85 @@ public class ManifoldHelper {
             boolean onI = Math.abs(di) <= VectorUtils.EPS;
             boolean onJ = Math.abs(dj) <= VectorUtils.EPS;
 
-            if (onI && onJ) {
-                pts.add(new Vector3f(pi));
-                pts.add(new Vector3f(pj));
-            } else if (onI) {
-                pts.add(new Vector3f(pi));
-            } else if (onJ) {
-                pts.add(new Vector3f(pj));
-            } else if ((di > 0f && dj < 0f) || (di < 0f && dj > 0f)) {
+            if (onI) count = addUnique(s.slice, count, pi);
+            if (onJ) count = addUnique(s.slice, count, pj);
+            if (!onI && !onJ && ((di > 0f && dj < 0f) || (di < 0f && dj > 0f))) {
                 float t = di / (di - dj);
-                Vector3f p = new Vector3f(pj).sub(pi).mul(t).add(pi);
-                pts.add(p);
+                count = addUnique(s.slice, count, s.point.set(pj).sub(pi).mul(t).add(pi));
             }
         }
-
-        return dedupe3D(pts);
+        return count;
     }
 
-    private List<Vector3f> dedupe3D(List<Vector3f> in) {
-        List<Vector3f> out = new ArrayList<>(in.size());
+    /** Appends {@code p} unless an earlier point is within EPS of it */
+    private int addUnique(float[] points, int count, Vector3f p) {
         final float epsSq = VectorUtils.EPS * VectorUtils.EPS;
+        for (int k = 0; k < count; k++) {
+            int q = k * 3;
+            if (p.distanceSquared(points[q], points[q + 1], points[q + 2]) <= epsSq) return count;
+        }
+        int q = count * 3;
+        points[q] = p.x;
+        points[q + 1] = p.y;
+        points[q + 2] = p.z;
+        return count + 1;
+    }
+
+    private void toUV(FaceScratch s, FaceBasis fb, Vector3f world, float[] dest, int index) {
+        Vector3f rel = s.rel.set(world).sub(fb.center);
+        dest[index * 2] = rel.dot(fb.u);
+        dest[index * 2 + 1] = rel.dot(fb.v);
+    }
 
-        for (Vector3f p : in) {
-            boolean unique = true;
-            for (Vector3f q : out) {
-                if (p.distanceSquared(q) <= epsSq) { unique = false; break; }
+    /** Sorts {@code s.poly} by angle around its average, stable insertion sort over a handful of points */
+    private void orderConvex(FaceScratch s, int count) {
+        if (count <= 2) return;
+        float[] poly = s.poly;
+        float[] angle = s.angle;
+
+        Vector2f c = s.mid.zero();
+        for (int k = 0; k < count; k++) c.add(poly[k * 2], poly[k * 2 + 1]);
+        c.div((float) count);
+        for (int k = 0; k < count; k++) angle[k] = pseudoAngle(poly[k * 2] - c.x, poly[k * 2 + 1] - c.y);
+
+        for (int k = 1; k < count; k++) {
+            float key = angle[k];
+            float x = poly[k * 2], y = poly[k * 2 + 1];
+            int j = k - 1;
+            while (j >= 0 && angle[j] > key) {
+                angle[j + 1] = angle[j];
+                poly[(j + 1) * 2] = poly[j * 2];
+                poly[(j + 1) * 2 + 1] = poly[j * 2 + 1];
+                j--;
             }
-            if (unique) out.add(p);
+            angle[j + 1] = key;
+            poly[(j + 1) * 2] = x;
+            poly[(j + 1) * 2 + 1] = y;
         }
-        return out;
     }
 
-    private List<Vector2f> orderConvex(List<Vector2f> poly) {
-        if (poly.size() <= 2) return poly;
-        Vector2f c = new Vector2f(0, 0);
-        for (Vector2f p : poly) c.add(p);
-        c.div((float) poly.size());
-        poly.sort(Comparator.comparingDouble(p -> Math.atan2(p.y - c.y, p.x - c.x)));
-        return poly;
+    /**
+     * Monotonic stand-in for atan2 over (-2, 2], plain arithmetic only
+     * <p>
+     * {@code Math.atan2} may be intrinsified differently per CPU and JIT tier, a last-bit
+     * difference there can reorder the polygon and with it the contact points
+     */
+    private float pseudoAngle(float dx, float dy) {
+        float sum = Math.abs(dx) + Math.abs(dy);
+        if (sum == 0F) return 0F;
+        float p = dx / sum;
+        return dy < 0F ? p - 1F : 1F - p;
     }
 
     /**
-     * Build a face basis for a specific face index, center placed on the correct side
+     * Load the basis of a specific face index into {@code fb}, center placed on the correct side
      * of the box along that faces `normal` depending on the world space dir `toward`
      * <p>
      * If dot(toward, nx) >= 0, place the face at +halfN along nx; else at -halfN
      */
-    private FaceBasis buildFaceBasis(
+    private FaceBasis loadFaceBasis(
+        @NotNull FaceScratch s,
+        @NotNull FaceBasis fb,
         @NotNull OrientedBox box,
         int faceIdx,
         @NotNull Vector3f toward
@@ -177,95 +274,126 @@ public class ManifoldHelper {
         Matrix3f R = box.rotation();
         Vector3f half = box.halfSize();
         Vector3f scale = box.scale();
-        Vector3f c = new Vector3f(box.center());
 
-        Vector3f nx = R.getColumn(faceIdx, new Vector3f());
+        Vector3f nx = R.getColumn(faceIdx, s.axis);
         int uIdx = (faceIdx + 1) % 3;
         int vIdx = (faceIdx + 2) % 3;
-        Vector3f u = R.getColumn(uIdx, new Vector3f());
-        Vector3f v = R.getColumn(vIdx, new Vector3f());
+        R.getColumn(uIdx, fb.u);
+        R.getColumn(vIdx, fb.v);
 
         float halfN = half.get(faceIdx) * scale.get(faceIdx);
-        float halfU = half.get(uIdx) * scale.get(uIdx);
-        float halfV = half.get(vIdx) * scale.get(vIdx);
+        fb.halfU = half.get(uIdx) * scale.get(uIdx);
+        fb.halfV = half.get(vIdx) * scale.get(vIdx);
 
         float sign = (toward.dot(nx) >= 0f) ? +1f : -1f;
-        Vector3f center = new Vector3f(c).fma(sign * halfN, nx);
-
-        FaceBasis fb = new FaceBasis();
-        fb.center = new Vector3f(center);
-        fb.u = u;
-        fb.v = v;
-        fb.halfU = halfU;
-        fb.halfV = halfV;
+        fb.center.set(box.center()).fma(sign * halfN, nx);
         return fb;
     }
 
-    private int mostAntiParallelFace(@NotNull OrientedBox box, @NotNull Vector3f n) {
-        Vector3f[] axes = box.axes();
+    private int mostAntiParallelFace(@NotNull FaceScratch s, @NotNull OrientedBox box, @NotNull Vector3f n) {
         int idx = 0;
         float best = Float.NEGATIVE_INFINITY;
         for (int i = 0; i < 3; i++) {
-            float score = -n.dot(axes[i]); // larger = more anti-parallel
+            float score = -n.dot(box.rotation().getColumn(i, s.axis)); // larger = more anti-parallel
             if (score > best) { best = score; idx = i; }
         }
         return idx;
     }
 
-    // Hodgman polygon clipping formula
-    private List<Vector2f> clipToRectangle(
-        @NotNull List<Vector2f> poly,
-        float hU, float hV
-    ) {
-        if (poly.isEmpty()) return poly;
-        List<Vector2f> out = poly;
-        out = clipHalfSpace(out, p -> p.x <= hU, (a, b) -> intersectAtX(a, b, hU));
-        out = clipHalfSpace(out, p -> p.x >= -hU, (a,b) -> intersectAtX(a,b,-hU));
-        out = clipHalfSpace(out, p -> p.y <=  hV, (a,b) -> intersectAtY(a,b, hV));
-        out = clipHalfSpace(out, p -> p.y >= -hV, (a,b) -> intersectAtY(a,b,-hV));
-
-        return out;
+    /** Sutherland-Hodgman against the face rectangle, the result ends up back in {@code s.poly} */
+    private int clipToRectangle(FaceScratch s, int count, float hU, float hV) {
+        count = clipHalfSpace(s.poly, count, s.clip, 0, +1F, hU);
+        count = clipHalfSpace(s.clip, count, s.poly, 0, -1F, -hU);
+        count = clipHalfSpace(s.poly, count, s.clip, 1, +1F, hV);
+        return clipHalfSpace(s.clip, count, s.poly, 1, -1F, -hV);
     }
 
-    private interface InsideTest { boolean test(Vector2f p); }
-    private interface Intersect { Vector2f apply(Vector2f a, Vector2f b); }
-
-    private List<Vector2f> clipHalfSpace(
-        @NotNull List<Vector2f> poly,
-        InsideTest inside,
-        Intersect intersect
-    ) {
-        if (poly.isEmpty()) return poly;
-        List<Vector2f> out = new ArrayList<>(poly.size() + 4);
-        Vector2f prev = poly.getLast();
-        boolean prevIn = inside.test(prev);
-
-        for (Vector2f current : poly) {
-            boolean currentIn = inside.test(current);
+    /**
+     * Clips {@code in} to the side of {@code coord[axis] = bound} given by {@code side}
+     * (+1 keeps coordinates at or below the bound, -1 at or above)
+     */
+    private int clipHalfSpace(float[] in, int count, float[] out, int axis, float side, float bound) {
+        if (count == 0) return 0;
+        int other = 1 - axis;
+        int written = 0;
+
+        int prev = (count - 1) * 2;
+        boolean prevIn = inside(in[prev + axis], side, bound);
+        for (int k = 0; k < count; k++) {
+            int current = k * 2;
+            boolean currentIn = inside(in[current + axis], side, bound);
+            if (currentIn != prevIn) {
+                intersect(in, prev, current, axis, other, bound, out, written++);
+            }
             if (currentIn) {
-                if (!prevIn) out.add(intersect.apply(prev, current));
-                out.add(current);
-            } else if (prevIn) {
-                out.add(intersect.apply(prev, current));
+                out[written * 2] = in[current];
+                out[written * 2 + 1] = in[current + 1];
+                written++;
             }
             prev = current;
             prevIn = currentIn;
         }
-        return out;
+        return written;
+    }
+
+    private boolean inside(float coord, float side, float bound) {
+        return side > 0F ? coord <= bound : coord >= bound;
     }
 
-    private Vector2f intersectAtX(Vector2f a, Vector2f b, float xBound) {
-        float dx = b.x - a.x;
-        if (Math.abs(dx) < VectorUtils.EPS) return new Vector2f(xBound, a.y); // degenerate vertical
-        float t = (xBound - a.x) / dx;
-        return new Vector2f(xBound, a.y + t * (b.y - a.y));
+    private void intersect(float[] in, int a, int b, int axis, int other, float bound, float[] out, int index) {
+        int o = index * 2;
+        out[o + axis] = bound;
+        float d = in[b + axis] - in[a + axis];
+        if (Math.abs(d) < VectorUtils.EPS) { // degenerate, edge runs along the bound
+            out[o + other] = in[a + other];
+            return;
+        }
+        float t = (bound - in[a + axis]) / d;
+        out[o + other] = in[a + other] + t * (in[b + other] - in[a + other]);
     }
 
-    private Vector2f intersectAtY(Vector2f a, Vector2f b, float yBound) {
-        float dy = b.y - a.y;
-        if (Math.abs(dy) < VectorUtils.EPS) return new Vector2f(a.x, yBound); // degenerate horizontal
-        float t = (yBound - a.y) / dy;
-        return new Vector2f(a.x + t * (b.x - a.x), yBound);
+    /**
+     * Picks up to {@link #MAX_FACE_POINTS} vertices of a convex polygon covering most of its area:
+     * the furthest along u, the vertex furthest from it, then the furthest on either side of that
+     * diagonal. Indices come back ascending, so they keep the polygon's winding
+     */
+    private int reduce(float[] poly, int count, int[] keep) {
+        if (count <= MAX_FACE_POINTS) {
+            for (int k = 0; k < count; k++) keep[k] = k;
+            return count;
+        }
+
+        int first = 0;
+        for (int k = 1; k < count; k++) {
+            if (poly[k * 2] > poly[first * 2]) first = k;
+        }
+        float fx = poly[first * 2], fy = poly[first * 2 + 1];
+
+        int second = first;
+        float furthest = 0F;
+        for (int k = 0; k < count; k++) {
+            float dx = poly[k * 2] - fx, dy = poly[k * 2 + 1] - fy;
+            float d2 = dx * dx + dy * dy;
+            if (d2 > furthest) { furthest = d2; second = k; }
+        }
+        keep[0] = first;
+        if (second == first) return 1;
+        keep[1] = second;
+
+        float ex = poly[second * 2] - fx, ey = poly[second * 2 + 1] - fy;
+        int left = -1, right = -1;
+        float maxArea = 0F, minArea = 0F;
+        for (int k = 0; k < count; k++) {
+            float area = ex * (poly[k * 2 + 1] - fy) - ey * (poly[k * 2] - fx);
+            if (area > maxArea) { maxArea = area; left = k; }
+            else if (area < minArea) { minArea = area; right = k; }
+        }
+
+        int kept = 2;
+        if (left >= 0) keep[kept++] = left;
+        if (right >= 0) keep[kept++] = right;
+        Arrays.sort(keep, 0, kept);
+        return kept;
     }
 
     private float clamp(float x, float lo, float hi) {
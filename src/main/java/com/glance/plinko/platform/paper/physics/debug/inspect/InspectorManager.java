@@ -77,6 +77,7 @@ public class InspectorManager implements Manager {
                 return;
             }
         }
+        obj.setPosition(pos);
 
         Transformer.renderAt(display, Vector.fromJOML(pos));
         session.getVisualHandler().update();
@@ -109,8 +110,9 @@ public class InspectorManager implements Manager {
             }
         }
 
-        obj.getRotation().mul(rotation);
-        Transformer.modifyTransform(display, true, t -> t.getLeftRotation().set(obj.getRotation()));
+        Quaternionf rotated = obj.getRotation().mul(rotation);
+        obj.setRotation(rotated);
+        Transformer.modifyTransform(display, true, t -> t.getLeftRotation().set(rotated));
         session.getVisualHandler().update();
     }
 
@@ -1,5 +1,6 @@
 package com.glance.plinko.platform.paper.physics.debug.inspect.visual;
 
+import com.glance.plinko.platform.paper.config.SolverConfig;
 import com.glance.plinko.platform.paper.display.DisplayOptions;
 import com.glance.plinko.platform.paper.display.DisplayUtils;
 import com.glance.plinko.platform.paper.display.debug.DebugArrow;
@@ -26,8 +27,7 @@ public class DebugCollisionVisuals {
     private final double NORMAL_LEN = 0.1;
     private final double MTV_LEN_SCALE = 1.0;
     private final double VEL_PREVIEW_SCALE = 0.4;
-    private final float PENETRATION_SLOP = 0.001f;
-    private final float PENETRATION_CORRECT_PCT = 0.80f;
+    private final SolverConfig SOLVER = SolverConfig.defaults();
 
     public void renderCollision(
         @NotNull World world,
@@ -110,7 +110,7 @@ public class DebugCollisionVisuals {
     }
 
     public Vector3f computeCorrectionVector(@NotNull CollisionResult result) {
-        float pen = Math.max(result.penetrationDepth() - PENETRATION_SLOP, 0F) * PENETRATION_CORRECT_PCT;
+        float pen = Math.max(result.penetrationDepth() - SOLVER.slop(), 0F) * SOLVER.baumgarte();
         return new Vector3f(result.normal()).negate().mul(pen);
     }
 
@@ -31,10 +31,37 @@ public record OrientedBox(
         if (other instanceof OrientedBox box) {
             return PhysicsCollider.resolveOBBvsOBB(this, box);
         }
+        if (other instanceof Sphere sphere) {
+            return PhysicsCollider.resolveOBBvsSphere(this, sphere);
+        }
 
         return null;
     }
 
+    @Override
+    public Vector3f aabbHalfExtents(Vector3f dest) {
+        float hx = halfSize.x * scale.x;
+        float hy = halfSize.y * scale.y;
+        float hz = halfSize.z * scale.z;
+
+        // Sum of each local axis' absolute world contribution
+        return dest.set(
+            Math.abs(rotation.m00()) * hx + Math.abs(rotation.m10()) * hy + Math.abs(rotation.m20()) * hz,
+            Math.abs(rotation.m01()) * hx + Math.abs(rotation.m11()) * hy + Math.abs(rotation.m21()) * hz,
+            Math.abs(rotation.m02()) * hx + Math.abs(rotation.m12()) * hy + Math.abs(rotation.m22()) * hz
+        );
+    }
+
+    /**
+     * @return radius of the sphere around the center enclosing every corner
+     */
+    public float boundingRadius() {
+        float hx = halfSize.x * scale.x;
+        float hy = halfSize.y * scale.y;
+        float hz = halfSize.z * scale.z;
+        return (float) Math.sqrt(hx * hx + hy * hy + hz * hz);
+    }
+
     /**
      * @return the 3 local unit axes transformed into world space
      */
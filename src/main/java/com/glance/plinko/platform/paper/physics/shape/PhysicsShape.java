@@ -3,7 +3,7 @@ package com.glance.plinko.platform.paper.physics.shape;
 import com.glance.plinko.platform.paper.physics.collision.CollisionResult;
 import org.joml.Vector3f;
 
-public sealed interface PhysicsShape permits OrientedBox {
+public sealed interface PhysicsShape permits OrientedBox, Sphere {
     Vector3f center();
 
     /**
@@ -11,4 +11,10 @@ public sealed interface PhysicsShape permits OrientedBox {
      * @return null if no collision, otherwise a response
      */
     CollisionResult collide(PhysicsShape other);
+
+    /**
+     * Half extents of the world-space axis-aligned box enclosing this shape
+     * @return dest
+     */
+    Vector3f aabbHalfExtents(Vector3f dest);
 }
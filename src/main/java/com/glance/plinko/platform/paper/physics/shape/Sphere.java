@@ -0,0 +1,37 @@
+package com.glance.plinko.platform.paper.physics.shape;
+
+import com.glance.plinko.platform.paper.physics.collision.CollisionResult;
+import com.glance.plinko.platform.paper.physics.collision.PhysicsCollider;
+import org.joml.Vector3f;
+
+/**
+ * Analytic sphere for round plinko balls
+ * <p>
+ * Collides against boxes via a closest point clamp rather than full SAT
+ *
+ * @param center Center position in world space
+ * @param radius World-space radius
+ */
+public record Sphere(
+    Vector3f center,
+    float radius
+) implements PhysicsShape {
+
+    @Override
+    public CollisionResult collide(PhysicsShape other) {
+        if (other instanceof Sphere sphere) {
+            return PhysicsCollider.resolveSphereVsSphere(this, sphere);
+        }
+        if (other instanceof OrientedBox box) {
+            return PhysicsCollider.resolveSphereVsOBB(this, box);
+        }
+
+        return null;
+    }
+
+    @Override
+    public Vector3f aabbHalfExtents(Vector3f dest) {
+        return dest.set(radius);
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.glance.plinko.platform.paper.physics.shape;
+
+import com.glance.plinko.platform.paper.physics.collision.CollisionResult;
+import com.glance.plinko.platform.paper.physics.collision.PhysicsSeparatingAxis;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix3f;
+import org.joml.Vector3f;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of a peg or wall that never moves
+ * <p>
+ * Axes, extents, bounding radius, world AABB and corners are derived once from the source
+ * shape and kept as primitives, so narrowphase against the board reads cached floats instead
+ * of pulling columns out of a matrix or allocating corner arrays on every test. Spheres are
+ * stored as their enclosing axis-aligned cube and flagged with {@link #isBox()} false
+ * <p>
+ * The source shape is kept for manifold building and must not be mutated afterwards
+ */
+public final class StaticObstacle {
+
+    private final PhysicsShape shape;
+    private final boolean box;
+
+    public final float cx, cy, cz;
+
+    // World-space local axes u0, u1, u2
+    public final float u0x, u0y, u0z;
+    public final float u1x, u1y, u1z;
+    public final float u2x, u2y, u2z;
+
+    // Scaled half extents along u0, u1, u2
+    public final float e0, e1, e2;
+
+    public final float radius;
+
+    // World AABB, as half extents and as min/max corners
+    public final float hx, hy, hz;
+    public final float minX, minY, minZ;
+    public final float maxX, maxY, maxZ;
+
+    // 8 corners as xyz triples, indexed like OrientedBox#corners
+    private final float[] corners = new float[24];
+
+    private StaticObstacle(@NotNull PhysicsShape shape) {
+        this.shape = shape;
+
+        Vector3f c = shape.center();
+        this.cx = c.x; this.cy = c.y; this.cz = c.z;
+
+        Vector3f aabb = shape.aabbHalfExtents(new Vector3f());
+        this.hx = aabb.x; this.hy = aabb.y; this.hz = aabb.z;
+        this.minX = c.x - aabb.x; this.minY = c.y - aabb.y; this.minZ = c.z - aabb.z;
+        this.maxX = c.x + aabb.x; this.maxY = c.y + aabb.y; this.maxZ = c.z + aabb.z;
+
+        if (shape instanceof OrientedBox b) {
+            this.box = true;
+            Matrix3f r = b.rotation();
+            this.u0x = r.m00(); this.u0y = r.m01(); this.u0z = r.m02();
+            this.u1x = r.m10(); this.u1y = r.m11(); this.u1z = r.m12();
+            this.u2x = r.m20(); this.u2y = r.m21(); this.u2z = r.m22();
+            this.e0 = b.halfSize().x * b.scale().x;
+            this.e1 = b.halfSize().y * b.scale().y;
+            this.e2 = b.halfSize().z * b.scale().z;
+            this.radius = b.boundingRadius();
+
+            Vector3f[] boxCorners = b.corners();
+            for (int i = 0; i < 8; i++) {
+                corners[i * 3] = boxCorners[i].x;
+                corners[i * 3 + 1] = boxCorners[i].y;
+                corners[i * 3 + 2] = boxCorners[i].z;
+            }
+        } else {
+            float r = ((Sphere) shape).radius();
+            this.box = false;
+            this.u0x = 1F; this.u0y = 0F; this.u0z = 0F;
+            this.u1x = 0F; this.u1y = 1F; this.u1z = 0F;
+            this.u2x = 0F; this.u2y = 0F; this.u2z = 1F;
+            this.e0 = r; this.e1 = r; this.e2 = r;
+            this.radius = r;
+
+            int index = 0;
+            for (int signX = -1; signX <= 1; signX += 2)
+                for (int signY = -1; signY <= 1; signY += 2)
+                    for (int signZ = -1; signZ <= 1; signZ += 2) {
+                        corners[index++] = c.x + signX * r;
+                        corners[index++] = c.y + signY * r;
+                        corners[index++] = c.z + signZ * r;
+                    }
+        }
+    }
+
+    public static @NotNull StaticObstacle of(@NotNull PhysicsShape shape) {
+        return new StaticObstacle(shape);
+    }
+
+    /**
+     * @return one obstacle per shape, in the same order
+     */
+    public static @NotNull StaticObstacle[] pack(@NotNull List<PhysicsShape> shapes) {
+        StaticObstacle[] packed = new StaticObstacle[shapes.size()];
+        for (int i = 0; i < packed.length; i++) packed[i] = new StaticObstacle(shapes.get(i));
+        return packed;
+    }
+
+    /**
+     * Resolves a moving shape against this obstacle, normal pointing from the moving shape
+     * towards the obstacle
+     * <p>
+     * Box against box reads the cached geometry, anything else defers to the shapes' own collide
+     *
+     * @return null if no collision
+     */
+    public CollisionResult collide(@NotNull PhysicsShape moving) {
+        if (box && moving instanceof OrientedBox movingBox) {
+            return PhysicsSeparatingAxis.resolveOBBvsStatic(movingBox, this);
+        }
+        return moving.collide(shape);
+    }
+
+    public @NotNull PhysicsShape shape() {
+        return shape;
+    }
+
+    /** @return false for spheres, which only approximate their box fields */
+    public boolean isBox() {
+        return box;
+    }
+
+    /** @return world-space local axis 0, 1 or 2 */
+    public Vector3f axis(int i, @NotNull Vector3f dest) {
+        return switch (i) {
+            case 0 -> dest.set(u0x, u0y, u0z);
+            case 1 -> dest.set(u1x, u1y, u1z);
+            case 2 -> dest.set(u2x, u2y, u2z);
+            default -> throw new IndexOutOfBoundsException(i);
+        };
+    }
+
+    /** @return scaled half extent along local axis 0, 1 or 2 */
+    public float extent(int i) {
+        return switch (i) {
+            case 0 -> e0;
+            case 1 -> e1;
+            case 2 -> e2;
+            default -> throw new IndexOutOfBoundsException(i);
+        };
+    }
+
+    /** @return corner {@code i} in world space, index bits (sx, sy, sz) like {@link OrientedBox#corners()} */
+    public Vector3f corner(int i, @NotNull Vector3f dest) {
+        return dest.set(corners[i * 3], corners[i * 3 + 1], corners[i * 3 + 2]);
+    }
+
+    /** @return the thinnest full extent along its own axes */
+    public float thickness() {
+        return 2F * Math.min(e0, Math.min(e1, e2));
+    }
+
+}
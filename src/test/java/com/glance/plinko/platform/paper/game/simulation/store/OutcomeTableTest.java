@@ -0,0 +1,136 @@
+package com.glance.plinko.platform.paper.game.simulation.store;
+
+import com.glance.plinko.platform.paper.animation.KeyframeTrack;
+import com.glance.plinko.platform.paper.animation.PackedKeyframeTrack;
+import com.glance.plinko.platform.paper.animation.PlinkoAnimation;
+import com.glance.plinko.platform.paper.animation.QuantizedKeyframeTrack;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Writes tables with {@link OutcomeTableFormat} and reads them back through {@link OutcomeTable#open}
+ * <p>
+ * A mapped entry decodes exactly like {@link QuantizedKeyframeTrack} around the launch position,
+ * so that is what every frame is compared against
+ */
+class OutcomeTableTest {
+
+    private static final long BOARD = 0x0123_4567_89AB_CDEFL;
+
+    @TempDir
+    Path dir;
+
+    private record Entry(int slot, LaunchParams launch, KeyframeTrack track) {}
+
+    @Test
+    void roundTrip() throws IOException {
+        List<Entry> entries = List.of(
+            new Entry(2, launch(0.2F, 4F, 0F), drop(40, 0.2F, 4F, 1)),
+            new Entry(5, launch(-0.7F, 4F, 0.1F), drop(25, -0.7F, 4F, 3)),
+            new Entry(2, launch(0F, 4F, 0F), drop(1, 0F, 4F, 1))
+        );
+        OutcomeTable table = OutcomeTable.open(write(entries));
+
+        assertEquals(BOARD, table.boardFingerprint());
+        assertEquals(entries.size(), table.size());
+        assertEquals(2, table.count(2));
+        assertEquals(1, table.count(5));
+        assertEquals(0, table.count(0));
+        assertNull(table.get(5, 1));
+
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            PlinkoAnimation animation = table.animation(i);
+            assertEquals(entry.slot(), animation.finalSlot());
+            assertEquals(entry.launch(), table.launch(i));
+            assertSameFrames(QuantizedKeyframeTrack.of(entry.track(), entry.launch().position()), animation.track());
+        }
+
+        PlinkoAnimation secondInSlot = table.get(2, 1);
+        assertNotNull(secondInSlot);
+        assertEquals(1, secondInSlot.track().size());
+    }
+
+    @Test
+    void wrappingFrameCountIsRejected() throws IOException {
+        Path file = write(List.of(new Entry(0, launch(0F, 4F, 0F), drop(10, 0F, 4F, 1))));
+
+        // ENTRY_HEADER_BYTES + frames * FRAME_BYTES overflows int to a negative length
+        patchInt(file, OutcomeTableFormat.HEADER_BYTES + OutcomeTableFormat.ENTRY_FRAME_COUNT, 200_000_000);
+        assertThrows(IOException.class, () -> OutcomeTable.open(file));
+    }
+
+    @Test
+    void oversizedEntryCountIsRejected() throws IOException {
+        Path file = write(List.of(new Entry(0, launch(0F, 4F, 0F), drop(10, 0F, 4F, 1))));
+
+        patchInt(file, 16, Integer.MAX_VALUE);
+        assertThrows(IOException.class, () -> OutcomeTable.open(file));
+    }
+
+    private static void assertSameFrames(@NotNull KeyframeTrack expected, @NotNull KeyframeTrack actual) {
+        assertEquals(expected.size(), actual.size(), "frame count");
+        for (int f = 0; f < expected.size(); f++) {
+            assertEquals(expected.tick(f), actual.tick(f), "tick of frame " + f);
+            assertEquals(expected.position(f, new Vector3f()), actual.position(f, new Vector3f()), "position of frame " + f);
+            assertEquals(expected.rotation(f, new Quaternionf()), actual.rotation(f, new Quaternionf()), "rotation of frame " + f);
+            assertEquals(expected.scale(f, new Vector3f()), actual.scale(f, new Vector3f()), "scale of frame " + f);
+            assertEquals(expected.collision(f), actual.collision(f), "collision of frame " + f);
+        }
+    }
+
+    private @NotNull Path write(@NotNull List<Entry> entries) throws IOException {
+        int bytes = OutcomeTableFormat.HEADER_BYTES;
+        for (Entry entry : entries) bytes += OutcomeTableFormat.entryBytes(entry.track().size());
+
+        ByteBuffer out = ByteBuffer.allocate(bytes);
+        OutcomeTableFormat.writeHeader(out, BOARD, entries.size());
+        for (Entry entry : entries) {
+            OutcomeTableFormat.writeEntry(out, entry.slot(), entry.launch(), entry.track());
+        }
+
+        Path file = dir.resolve(Long.toHexString(BOARD) + ".plko");
+        Files.write(file, out.array());
+        return file;
+    }
+
+    private static void patchInt(@NotNull Path file, int index, int value) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        bytes.putInt(index, value);
+        Files.write(file, bytes.array());
+    }
+
+    private static @NotNull LaunchParams launch(float x, float y, float z) {
+        return new LaunchParams(new Vector3f(x, y, z), new Vector3f(0.05F, 0F, 0F), new Vector3f(0F, 0F, 0.3F));
+    }
+
+    /**
+     * A falling, spinning ball sampled every {@code tickStep} ticks, colliding on every fifth frame
+     */
+    private static @NotNull KeyframeTrack drop(int frames, float x, float y, int tickStep) {
+        PackedKeyframeTrack.Builder builder = PackedKeyframeTrack.builder(frames);
+        Vector3f scale = new Vector3f(0.5F);
+        for (int f = 0; f < frames; f++) {
+            float t = f * tickStep;
+            Vector3f position = new Vector3f(x + 0.01F * t, y - 0.004F * t * t, 0.002F * t);
+            Quaternionf rotation = new Quaternionf().rotateZ(0.15F * t).rotateX(0.05F * t);
+            builder.add(f * tickStep, position, rotation, scale, f % 5 == 4);
+        }
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.glance.plinko.platform.paper.physics.collision;
+
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix3f;
+import org.joml.Vector3f;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Shared fixtures for the collision tests: bit-exact float comparison and seeded random boxes
+ */
+public final class CollisionTestSupport {
+
+    public static final float QUARTER = (float) Math.toRadians(45);
+
+    private CollisionTestSupport() {}
+
+    /** Compares by raw bits, so -0 and 0 or two NaN payloads count as different */
+    public static boolean sameBits(float a, float b) {
+        return Float.floatToRawIntBits(a) == Float.floatToRawIntBits(b);
+    }
+
+    public static boolean sameBits(@NotNull Vector3f a, @NotNull Vector3f b) {
+        return sameBits(a.x, b.x) && sameBits(a.y, b.y) && sameBits(a.z, b.z);
+    }
+
+    public static void assertBits(float expected, float actual, String what) {
+        assertEquals(Float.floatToRawIntBits(expected), Float.floatToRawIntBits(actual),
+            () -> what + ": expected " + expected + " but was " + actual);
+    }
+
+    public static void assertBits(@NotNull Vector3f expected, @NotNull Vector3f actual, String what) {
+        assertTrue(sameBits(expected, actual), () -> what + ": expected " + expected + " but was " + actual);
+    }
+
+    /** Box with equal sides of {@code size}, unit scale */
+    public static @NotNull OrientedBox box(float x, float y, float z, float size, @NotNull Matrix3f rotation) {
+        return new OrientedBox(new Vector3f(x, y, z), new Vector3f(size / 2F), rotation);
+    }
+
+    /**
+     * Box within a unit of the origin, a third of them turned in whole 45 deg steps and half of
+     * them with a non-unit scale
+     */
+    public static @NotNull OrientedBox randomBox(@NotNull Random random) {
+        Vector3f center = new Vector3f(
+            random.nextFloat() * 2F - 1F,
+            random.nextFloat() * 2F - 1F,
+            random.nextFloat() * 2F - 1F
+        );
+        Vector3f halfSize = randomHalfSize(random, 0.1F, 0.5F);
+        Matrix3f rotation = random.nextInt(3) == 0 ? randomQuarterTurns(random) : randomRotation(random);
+        Vector3f scale = random.nextBoolean()
+            ? new Vector3f(1F)
+            : new Vector3f(0.5F + random.nextFloat(), 0.5F + random.nextFloat(), 0.5F + random.nextFloat());
+        return new OrientedBox(center, halfSize, rotation, scale);
+    }
+
+    /** Each half extent in {@code [min, min + range)} */
+    public static @NotNull Vector3f randomHalfSize(@NotNull Random random, float min, float range) {
+        return new Vector3f(
+            min + random.nextFloat() * range,
+            min + random.nextFloat() * range,
+            min + random.nextFloat() * range
+        );
+    }
+
+    /** Euler angles uniform over a full turn each */
+    public static @NotNull Matrix3f randomRotation(@NotNull Random random) {
+        float tau = (float) (Math.PI * 2);
+        return new Matrix3f().rotateXYZ(random.nextFloat() * tau, random.nextFloat() * tau, random.nextFloat() * tau);
+    }
+
+    /** Whole 45 deg steps about each axis, where faces line up and cross axes degenerate */
+    public static @NotNull Matrix3f randomQuarterTurns(@NotNull Random random) {
+        return new Matrix3f().rotateXYZ(random.nextInt(8) * QUARTER, random.nextInt(8) * QUARTER, random.nextInt(8) * QUARTER);
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.glance.plinko.platform.paper.physics.collision;
+
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import com.glance.plinko.platform.paper.physics.shape.StaticObstacle;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3f;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static com.glance.plinko.platform.paper.physics.collision.CollisionTestSupport.QUARTER;
+import static com.glance.plinko.platform.paper.physics.collision.CollisionTestSupport.assertBits;
+import static com.glance.plinko.platform.paper.physics.collision.CollisionTestSupport.box;
+import static com.glance.plinko.platform.paper.physics.collision.CollisionTestSupport.randomBox;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The allocation-free SAT paths against the reference {@link PhysicsSeparatingAxis#resolveOBBvsOBB}
+ * <p>
+ * Every float is compared by its bits, the fast paths promise identical results, not close ones
+ */
+class PhysicsSeparatingAxisDifferentialTest {
+
+    private static final long SEED = 0x5A7_D1FFL;
+    private static final int PAIRS = 20_000;
+
+    @Test
+    void separatedPair() {
+        OrientedBox a = box(0F, 0F, 0F, 1F, new Matrix3f());
+        OrientedBox b = box(3F, 0F, 0F, 1F, new Matrix3f());
+
+        assertNull(PhysicsSeparatingAxis.resolveOBBvsOBB(a, b));
+        assertAllMatch(a, b);
+    }
+
+    @Test
+    void faceFacePair() {
+        OrientedBox a = box(0F, 0F, 0F, 1F, new Matrix3f());
+        OrientedBox b = box(0.1F, -0.95F, 0.05F, 1F, new Matrix3f());
+
+        CollisionResult expected = PhysicsSeparatingAxis.resolveOBBvsOBB(a, b);
+        assertNotNull(expected);
+        assertEquals(CollisionResult.ContactTopology.FACE_FACE, expected.topology());
+        assertAllMatch(a, b);
+    }
+
+    @Test
+    void edgeEdgePair() {
+        // Crossing edges overlap by 0.05 along Y, which beats every face axis
+        float diagonal = (float) Math.sqrt(2);
+        OrientedBox a = box(0F, 0F, 0F, 1F, new Matrix3f().rotateZ(QUARTER));
+        OrientedBox b = box(0F, -diagonal + 0.05F, 0F, 1F, new Matrix3f().rotateX(QUARTER));
+
+        CollisionResult expected = PhysicsSeparatingAxis.resolveOBBvsOBB(a, b);
+        assertNotNull(expected);
+        assertEquals(CollisionResult.ContactTopology.EDGE_EDGE, expected.topology());
+        assertAllMatch(a, b);
+    }
+
+    @Test
+    void ballOnPeg() {
+        // Board pegs are turned 45 deg about Y, so several cross axes are degenerate
+        OrientedBox peg = box(0F, 0F, 0F, 0.75F, new Matrix3f().rotateY(QUARTER));
+        OrientedBox ball = box(0.2F, 0.55F, 0F, 0.5F, new Matrix3f().rotateZ(0.3F));
+
+        assertNotNull(PhysicsSeparatingAxis.resolveOBBvsOBB(ball, peg));
+        assertAllMatch(ball, peg);
+    }
+
+    @Test
+    void seededRandomPairs() {
+        Random random = new Random(SEED);
+        int hits = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            OrientedBox a = randomBox(random);
+            OrientedBox b = randomBox(random);
+            if (PhysicsSeparatingAxis.resolveOBBvsOBB(a, b) != null) hits++;
+            assertAllMatch(a, b);
+        }
+
+        // Boxes spread over two units overlap about a quarter of the time, a generator that drifts to
+        // all-separated would only exercise the early-out axes
+        int minimum = PAIRS / 10;
+        assertTrue(hits > minimum, "only " + hits + " overlapping pairs");
+        assertTrue(PAIRS - hits > minimum, "only " + (PAIRS - hits) + " separated pairs");
+    }
+
+    private static void assertAllMatch(@NotNull OrientedBox a, @NotNull OrientedBox b) {
+        CollisionResult expected = PhysicsSeparatingAxis.resolveOBBvsOBB(a, b);
+        assertIdentical(expected, PhysicsSeparatingAxis.resolveOBBvsOBBFast(a, b), "fast");
+        assertIdentical(expected, PhysicsSeparatingAxis.resolveOBBvsStatic(a, StaticObstacle.of(b)), "static");
+    }
+
+    private static void assertIdentical(@Nullable CollisionResult expected, @Nullable CollisionResult actual, String path) {
+        if (expected == null) {
+            assertNull(actual, path + " found a collision the reference path separated");
+            return;
+        }
+        assertNotNull(actual, path + " separated a pair the reference path collides");
+
+        assertBits(expected.normal(), actual.normal(), path + " normal");
+        assertBits(expected.penetrationDepth(), actual.penetrationDepth(), path + " depth");
+        assertEquals(expected.axisType(), actual.axisType(), path + " axis type");
+        assertEquals(expected.topology(), actual.topology(), path + " topology");
+        assertEquals(expected.indexA(), actual.indexA(), path + " indexA");
+        assertEquals(expected.indexB(), actual.indexB(), path + " indexB");
+
+        List<Vector3f> expectedPoints = expected.contactPoints();
+        List<Vector3f> actualPoints = actual.contactPoints();
+        assertEquals(expectedPoints.size(), actualPoints.size(), path + " contact count");
+        for (int i = 0; i < expectedPoints.size(); i++) {
+            assertBits(expectedPoints.get(i), actualPoints.get(i), path + " contact " + i);
+        }
+        assertBits(expected.centroid(), actual.centroid(), path + " centroid");
+        assertSame(expected.other(), actual.other(), path + " other");
+    }
+
+}
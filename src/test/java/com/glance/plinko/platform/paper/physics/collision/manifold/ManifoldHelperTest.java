@@ -0,0 +1,145 @@
+package com.glance.plinko.platform.paper.physics.collision.manifold;
+
+import com.glance.plinko.platform.paper.physics.shape.OrientedBox;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix3f;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static com.glance.plinko.platform.paper.physics.collision.CollisionTestSupport.QUARTER;
+import static com.glance.plinko.platform.paper.physics.collision.CollisionTestSupport.assertBits;
+import static com.glance.plinko.platform.paper.physics.collision.CollisionTestSupport.randomHalfSize;
+import static com.glance.plinko.platform.paper.physics.collision.CollisionTestSupport.randomRotation;
+import static com.glance.plinko.platform.paper.physics.collision.CollisionTestSupport.sameBits;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Face-face manifolds against {@link LegacyFaceFaceManifold}, the implementation before points were
+ * reduced to {@link ManifoldHelper#MAX_FACE_POINTS}
+ * <p>
+ * Up to 4 legacy points must come back bit for bit in the same order, larger polygons reduce to a
+ * subset of them. The centroid is still averaged over the whole clipped polygon, so it never changes
+ */
+class ManifoldHelperTest {
+
+    private static final long SEED = 0x3A21_F01DL;
+    private static final int PAIRS = 50_000;
+
+    @Test
+    void boxRestingOnFace() {
+        OrientedBox floor = new OrientedBox(new Vector3f(0F), new Vector3f(1F, 0.5F, 1F), new Matrix3f());
+        OrientedBox box = new OrientedBox(new Vector3f(0.1F, 0.95F, -0.2F), new Vector3f(0.5F), new Matrix3f());
+
+        Vector3f up = new Vector3f(0F, 1F, 0F);
+        assertEquals(4, assertMatchesLegacy(floor, box, up, true, 1));
+    }
+
+    @Test
+    void turnedBoxClipsToOctagon() {
+        // Square turned 45 deg on a square of the same size, the overlap is an octagon
+        OrientedBox floor = new OrientedBox(new Vector3f(0F), new Vector3f(0.5F), new Matrix3f());
+        OrientedBox box = new OrientedBox(new Vector3f(0F, 0.95F, 0F), new Vector3f(0.5F), new Matrix3f().rotateY(QUARTER));
+
+        Vector3f up = new Vector3f(0F, 1F, 0F);
+        assertEquals(8, assertMatchesLegacy(floor, box, up, true, 1));
+    }
+
+    @Test
+    void seededRandomPairs() {
+        Random random = new Random(SEED);
+        int identical = 0;
+        int reduced = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            boolean aligned = i % 3 == 0;
+            OrientedBox a = new OrientedBox(
+                new Vector3f(0F),
+                aligned ? new Vector3f(0.5F) : randomHalfSize(random, 0.2F, 1F),
+                aligned ? new Matrix3f() : randomRotation(random)
+            );
+            OrientedBox b = new OrientedBox(
+                aligned ? gridCenter(random) : gaussianCenter(random),
+                randomHalfSize(random, 0.1F, 0.6F),
+                aligned && random.nextBoolean() ? new Matrix3f() : randomRotation(random)
+            );
+
+            boolean refIsA = random.nextBoolean();
+            int faceIdx = random.nextInt(3);
+            Vector3f normal = (refIsA ? a : b).rotation().getColumn(faceIdx, new Vector3f());
+            if (random.nextBoolean()) normal.negate();
+
+            if (assertMatchesLegacy(a, b, normal, refIsA, faceIdx) <= ManifoldHelper.MAX_FACE_POINTS) {
+                identical++;
+            } else {
+                reduced++;
+            }
+        }
+
+        // Roughly one pair in seven clips to more than 4 points, if that share collapses the reduction
+        // is no longer compared against the legacy polygon at all
+        int minimum = PAIRS / 20;
+        assertTrue(identical > minimum, "only " + identical + " pairs with up to 4 legacy points");
+        assertTrue(reduced > minimum, "only " + reduced + " reduced pairs");
+    }
+
+    /**
+     * @return the number of points the legacy implementation produced
+     */
+    private static int assertMatchesLegacy(
+        @NotNull OrientedBox a,
+        @NotNull OrientedBox b,
+        @NotNull Vector3f normal,
+        boolean refIsA,
+        int faceIdx
+    ) {
+        Manifold expected = LegacyFaceFaceManifold.buildFaceFaceManifold(a, b, normal, refIsA, faceIdx);
+        Manifold actual = ManifoldHelper.buildFaceFaceManifold(a, b, normal, refIsA, faceIdx);
+
+        List<Vector3f> legacy = expected.points;
+        List<Vector3f> points = actual.points;
+        if (legacy.size() <= ManifoldHelper.MAX_FACE_POINTS) {
+            assertEquals(legacy.size(), points.size(), "point count");
+            for (int i = 0; i < legacy.size(); i++) {
+                assertBits(legacy.get(i), points.get(i), "point " + i);
+            }
+        } else {
+            assertTrue(points.size() >= 3 && points.size() <= ManifoldHelper.MAX_FACE_POINTS,
+                "reduced " + legacy.size() + " points to " + points.size());
+            for (Vector3f point : points) {
+                if (!containsBits(legacy, point)) fail(point + " is not one of the legacy points " + legacy);
+            }
+        }
+
+        assertBits(expected.centroid, actual.centroid, "centroid");
+        return legacy.size();
+    }
+
+    private static boolean containsBits(@NotNull List<Vector3f> points, @NotNull Vector3f point) {
+        for (Vector3f candidate : points) {
+            if (sameBits(candidate, point)) return true;
+        }
+        return false;
+    }
+
+    /** Quarter-unit steps, so faces often sit flush or exactly on the reference rectangle's border */
+    private static @NotNull Vector3f gridCenter(@NotNull Random random) {
+        return new Vector3f(
+            (random.nextInt(9) - 4) * 0.25F,
+            (random.nextInt(9) - 4) * 0.25F,
+            (random.nextInt(9) - 4) * 0.25F
+        );
+    }
+
+    private static @NotNull Vector3f gaussianCenter(@NotNull Random random) {
+        return new Vector3f(
+            (float) random.nextGaussian() * 0.7F,
+            (float) random.nextGaussian() * 0.7F,
+            (float) random.nextGaussian() * 0.7F
+        );
+    }
+
+}